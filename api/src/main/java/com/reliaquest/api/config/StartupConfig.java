@@ -0,0 +1,28 @@
+package com.reliaquest.api.config;
+
+import com.reliaquest.api.service.EmployeeService;
+import com.reliaquest.api.service.WarmStartCache;
+import com.reliaquest.api.service.WriteBehindService;
+import com.reliaquest.api.util.AdaptiveConcurrencyLimiter;
+import org.springframework.boot.LazyInitializationExcludeFilter;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Beans kept eager when lazy initialization is on (fast-startup profile), so the first request does not pay for them.
+ * The snapshot cache and the write-behind queue also do their startup work (loading the snapshot, replaying the
+ * journal) when created, which lazily would wait for a request that uses them.
+ * Everything else, notably springdoc and the OpenAPI model, is created on first use.
+ */
+@Configuration
+public class StartupConfig {
+
+    @Bean
+    static LazyInitializationExcludeFilter eagerRequestPath() {
+        return LazyInitializationExcludeFilter.forBeanTypes(
+                EmployeeService.class,
+                AdaptiveConcurrencyLimiter.class,
+                WarmStartCache.class,
+                WriteBehindService.class);
+    }
+}
@@ -0,0 +1,33 @@
+package com.reliaquest.api.config;
+
+import com.reliaquest.api.model.TraceRecord;
+import com.reliaquest.api.util.TraceBuffer;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+/**
+ * Exposes sampled traces at /actuator/traces (newest first) and /actuator/traces/{traceId}.
+ */
+@Component
+@Endpoint(id = "traces")
+@RequiredArgsConstructor
+public class TracesEndpoint {
+    private static final int DEFAULT_LIMIT = 100;
+
+    private final TraceBuffer traceBuffer;
+
+    @ReadOperation
+    public List<TraceRecord> recent(@Nullable Integer limit) {
+        return traceBuffer.recent(limit != null && limit > 0 ? limit : DEFAULT_LIMIT);
+    }
+
+    @ReadOperation
+    public TraceRecord trace(@Selector String traceId) {
+        return traceBuffer.find(traceId).orElse(null);
+    }
+}
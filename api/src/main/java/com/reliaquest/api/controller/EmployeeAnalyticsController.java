@@ -0,0 +1,84 @@
+package com.reliaquest.api.controller;
+
+import com.reliaquest.api.model.TitleAggregate;
+import com.reliaquest.api.service.EmployeeAnalyticsService;
+import com.reliaquest.api.service.TitleAggregateService;
+import com.reliaquest.api.util.QuantileSketch;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import java.util.List;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * REST controller for salary analytics.
+ * Kept separate from {@link IEmployeeController} so the assessment contract stays untouched.
+ */
+@RestController
+@RequestMapping("/api/v1/employee/analytics")
+@RequiredArgsConstructor
+@Slf4j
+@Tag(name = "Employee Analytics", description = "Sketch-based salary and title analytics")
+@SecurityRequirement(name = "basicAuth")
+public class EmployeeAnalyticsController {
+    private final EmployeeAnalyticsService analyticsService;
+    private final TitleAggregateService titleAggregateService;
+
+    @Operation(
+            summary = "Salary percentiles",
+            description = "Estimated salaries at the given ranks (1% relative error)")
+    @GetMapping("/salary/percentiles")
+    public ResponseEntity<Map<Double, Integer>> getSalaryPercentiles(
+            @Parameter(description = "Ranks in [0, 1]") @RequestParam(defaultValue = "0.5,0.9,0.99")
+                    List<Double> quantiles) {
+        log.info("Getting salary percentiles: {}", quantiles);
+        return ResponseEntity.ok(analyticsService.getSalaryPercentiles(quantiles));
+    }
+
+    @Operation(summary = "Salary histogram", description = "Equal-width salary histogram")
+    @GetMapping("/salary/histogram")
+    public ResponseEntity<List<QuantileSketch.Bin>> getSalaryHistogram(
+            @Parameter(description = "Number of bins") @RequestParam(defaultValue = "10") int bins) {
+        log.info("Getting salary histogram: {} bins", bins);
+        return ResponseEntity.ok(analyticsService.getSalaryHistogram(Math.max(1, Math.min(bins, 1000))));
+    }
+
+    @Operation(summary = "Distinct titles", description = "Estimated number of distinct job titles")
+    @GetMapping("/titles/distinct")
+    public ResponseEntity<Long> getDistinctTitleCount() {
+        log.info("Getting distinct title count");
+        return ResponseEntity.ok(analyticsService.getDistinctTitleCount());
+    }
+
+    @Operation(summary = "Title aggregates", description = "Headcount, salary and age aggregates for every title")
+    @GetMapping("/titles")
+    public ResponseEntity<List<TitleAggregate>> getTitleAggregates() {
+        log.info("Getting title aggregates");
+        return ResponseEntity.ok(titleAggregateService.getAggregates());
+    }
+
+    @Operation(summary = "Top titles", description = "Titles with the highest average salary")
+    @GetMapping("/titles/top")
+    public ResponseEntity<List<TitleAggregate>> getTopTitlesByAverageSalary(
+            @Parameter(description = "Number of titles") @RequestParam(defaultValue = "10") int n) {
+        log.info("Getting top {} titles by average salary", n);
+        return ResponseEntity.ok(titleAggregateService.getTopByAverageSalary(Math.max(0, n)));
+    }
+
+    @Operation(
+            summary = "Title aggregate",
+            description = "Aggregates for a single title; a query parameter, so any title name can be looked up")
+    @GetMapping(value = "/titles", params = "title")
+    public ResponseEntity<TitleAggregate> getTitleAggregate(@RequestParam String title) {
+        log.info("Getting title aggregate: {}", title);
+        return ResponseEntity.of(titleAggregateService.getAggregate(title));
+    }
+}
@@ -54,7 +54,8 @@ public class EmployeeController implements IEmployeeController<Employee, CreateE
     public ResponseEntity<List<Employee>> getEmployeesByNameSearch(
             @Parameter(description = "Name fragment to search for") String searchString) {
         log.info("Searching employees: {}", searchString);
-        return ResponseEntity.ok(EmployeeUtils.searchByName(employeeService.getAllEmployees(), searchString));
+        return ResponseEntity.ok(
+                EmployeeUtils.searchByName(employeeService.searchEmployeesByName(searchString), searchString));
     }
 
     /**
@@ -69,24 +70,24 @@ public class EmployeeController implements IEmployeeController<Employee, CreateE
     }
 
     /**
-     * Finds the highest salary using stream reduction (O(n) complexity).
+     * Finds the highest salary by pushing a sort-and-limit-1 query down to the server.
      * @return ResponseEntity containing the maximum salary
      */
     @Override
     public ResponseEntity<Integer> getHighestSalaryOfEmployees() {
         log.info("Getting highest salary");
-        return ResponseEntity.ok(EmployeeUtils.findMaxSalary(employeeService.getAllEmployees()));
+        return ResponseEntity.ok(EmployeeUtils.findMaxSalary(employeeService.getTopEarners(1)));
     }
 
     /**
-     * Gets top 10 highest earning employees using partial sorting (O(n log k) where k=10).
-     * Uses priority queue internally for optimal performance.
+     * Gets top 10 highest earning employees; the server sorts and limits so only 10 rows cross the wire.
+     * The local min-heap pass (O(k log k)) keeps the result correct against servers that ignore the query.
      * @return ResponseEntity containing list of top 10 employee names
      */
     @Override
     public ResponseEntity<List<String>> getTopTenHighestEarningEmployeeNames() {
         log.info("Getting top 10 earners");
-        return ResponseEntity.ok(EmployeeUtils.getTopKEarners(employeeService.getAllEmployees(), 10));
+        return ResponseEntity.ok(EmployeeUtils.getTopKEarners(employeeService.getTopEarners(10), 10));
     }
 
     @Operation(summary = "Create employee", description = "Creates a new employee (Admin only)")
@@ -120,7 +121,7 @@ public class EmployeeController implements IEmployeeController<Employee, CreateE
         try {
             Employee employee = employeeService.getEmployeeById(id);
             String employeeName = employee.getName();
-            employeeService.deleteEmployee(employeeName);
+            employeeService.deleteEmployee(employee);
             log.info("Successfully deleted employee: {}", employeeName);
             return ResponseEntity.ok(employeeName);
         } catch (Exception e) {
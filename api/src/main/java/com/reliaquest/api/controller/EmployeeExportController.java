@@ -0,0 +1,126 @@
+package com.reliaquest.api.controller;
+
+import com.reliaquest.api.service.EmployeeService;
+import com.reliaquest.api.util.AcceptEncoding;
+import com.reliaquest.api.util.EmployeeExportWriter;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.List;
+import java.util.zip.GZIPOutputStream;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * REST controller for bulk export.
+ * Rows are written straight to the response as pages arrive; the blocking socket write paces the upstream pulls,
+ * so heap use stays flat regardless of dataset size.
+ * If the export fails once the response is committed, the connection is dropped without finishing the body,
+ * so the client sees a broken transfer rather than a complete-looking but truncated file.
+ */
+@RestController
+@RequestMapping("/api/v1/employee/export")
+@RequiredArgsConstructor
+@Slf4j
+@Tag(name = "Employee Export", description = "Streaming NDJSON and CSV export")
+@SecurityRequirement(name = "basicAuth")
+public class EmployeeExportController {
+    private static final int MAX_PAGE_SIZE = 5_000;
+
+    private final EmployeeService employeeService;
+
+    @Operation(
+            summary = "Export employees",
+            description = "Streams all employees as NDJSON or CSV; gzip-compressed when the client accepts it. "
+                    + "Not a point-in-time snapshot: without a local snapshot the upstream is paged by offset, "
+                    + "so a row deleted during the export can make a later row be skipped.")
+    @GetMapping
+    public void exportEmployees(
+            @Parameter(description = "ndjson or csv") @RequestParam(defaultValue = "ndjson") String format,
+            @Parameter(description = "Columns to include: id, name, salary, age, title, email")
+                    @RequestParam(required = false)
+                    List<String> fields,
+            @Parameter(description = "Rows pulled per upstream request") @RequestParam(defaultValue = "500")
+                    int pageSize,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding,
+            HttpServletResponse response)
+            throws IOException {
+        EmployeeExportWriter.Format exportFormat;
+        List<EmployeeExportWriter.Column> columns;
+        try {
+            exportFormat = EmployeeExportWriter.Format.parse(format);
+            columns = EmployeeExportWriter.Column.parse(fields);
+        } catch (IllegalArgumentException e) {
+            response.sendError(HttpServletResponse.SC_BAD_REQUEST, e.getMessage());
+            return;
+        }
+        log.info("Exporting employees as {} with columns {}", exportFormat, columns);
+
+        boolean gzip = AcceptEncoding.accepts(acceptEncoding, "gzip");
+        response.setContentType(exportFormat.contentType());
+        response.setCharacterEncoding("UTF-8");
+        response.setHeader(
+                HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"employees." + exportFormat.extension() + "\"");
+        response.setHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        if (gzip) {
+            response.setHeader(HttpHeaders.CONTENT_ENCODING, "gzip");
+        }
+
+        OutputStream out = gzip ? new GZIPOutputStream(response.getOutputStream(), true) : response.getOutputStream();
+        try {
+            EmployeeExportWriter writer = new EmployeeExportWriter(out, exportFormat, columns);
+            employeeService.forEachPage(
+                    Math.max(1, Math.min(pageSize, MAX_PAGE_SIZE)),
+                    columns.size() == EmployeeExportWriter.Column.values().length
+                            ? null
+                            : columns.stream()
+                                    .map(EmployeeExportWriter.Column::key)
+                                    .toList(),
+                    page -> {
+                        try {
+                            writer.write(page);
+                        } catch (IOException e) {
+                            throw new UncheckedIOException(e);
+                        }
+                    });
+            writer.close();
+        } catch (IOException | UncheckedIOException e) {
+            log.warn("Export aborted, client went away: {}", e.getMessage());
+        } catch (RuntimeException e) {
+            // The writer stays open: closing it would end the rows and the gzip stream as if the export had finished.
+            if (!response.isCommitted()) {
+                response.reset();
+                throw e;
+            }
+            log.error("Export failed after the response was committed, dropping the connection", e);
+            throw new ExportAbortedException(e);
+        }
+    }
+
+    /**
+     * Rethrown so the exception reaches the container, which closes a committed response's connection at once,
+     * instead of the global handler appending an error body to the partial export.
+     */
+    @ExceptionHandler(ExportAbortedException.class)
+    void abortExport(ExportAbortedException e) {
+        throw e;
+    }
+
+    private static final class ExportAbortedException extends RuntimeException {
+        ExportAbortedException(Throwable cause) {
+            super(cause);
+        }
+    }
+}
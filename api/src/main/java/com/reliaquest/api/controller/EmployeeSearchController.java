@@ -0,0 +1,60 @@
+package com.reliaquest.api.controller;
+
+import com.reliaquest.api.model.Employee;
+import com.reliaquest.api.service.AutocompleteService;
+import com.reliaquest.api.service.NameSearchService;
+import com.reliaquest.api.util.CompletionTrie;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * REST controller for index-backed name search.
+ * Complements the exact substring search of {@link IEmployeeController}.
+ */
+@RestController
+@RequestMapping("/api/v1/employee/search")
+@RequiredArgsConstructor
+@Slf4j
+@Tag(name = "Employee Search", description = "Typo-tolerant name search and autocomplete")
+@SecurityRequirement(name = "basicAuth")
+public class EmployeeSearchController {
+    private static final int MAX_DISTANCE = 3;
+    private static final int MAX_RESULTS = 1000;
+
+    private final NameSearchService nameSearchService;
+    private final AutocompleteService autocompleteService;
+
+    @Operation(summary = "Fuzzy name search", description = "Finds employees by name allowing typos, closest first")
+    @GetMapping("/fuzzy/{searchString}")
+    public ResponseEntity<List<Employee>> getEmployeesByFuzzyNameSearch(
+            @Parameter(description = "Name or name fragments to search for") @PathVariable String searchString,
+            @Parameter(description = "Maximum edits per name token") @RequestParam(defaultValue = "2") int maxDistance,
+            @Parameter(description = "Maximum number of results") @RequestParam(defaultValue = "50") int limit) {
+        log.info("Fuzzy searching employees: {}", searchString);
+        return ResponseEntity.ok(nameSearchService.fuzzySearch(
+                searchString,
+                Math.max(0, Math.min(maxDistance, MAX_DISTANCE)),
+                Math.max(1, Math.min(limit, MAX_RESULTS))));
+    }
+
+    @Operation(summary = "Autocomplete", description = "Most frequent name tokens starting with the prefix")
+    @GetMapping("/autocomplete/{prefix}")
+    public ResponseEntity<List<CompletionTrie.Completion>> getNameCompletions(
+            @Parameter(description = "Prefix typed so far") @PathVariable String prefix,
+            @Parameter(description = "Maximum number of completions") @RequestParam(defaultValue = "10") int limit) {
+        log.debug("Completing prefix: {}", prefix);
+        return ResponseEntity.ok(autocompleteService.complete(
+                prefix, Math.max(1, Math.min(limit, AutocompleteService.MAX_COMPLETIONS))));
+    }
+}
@@ -0,0 +1,92 @@
+package com.reliaquest.api.controller;
+
+import com.reliaquest.api.model.CreateEmployeeInput;
+import com.reliaquest.api.model.WriteStatus;
+import com.reliaquest.api.service.WriteBehindService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import java.net.URI;
+import java.util.Optional;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * REST controller for asynchronous (write-behind) employee mutations.
+ * Writes are acknowledged with 202 and a tracking id once journaled; clients poll the status endpoint for the outcome.
+ */
+@RestController
+@RequestMapping("/api/v1/employee/writes")
+@RequiredArgsConstructor
+@Slf4j
+@ConditionalOnProperty(name = "employee.write-behind.enabled", havingValue = "true")
+@Tag(name = "Employee Write-Behind", description = "Queued employee creation and deletion")
+@SecurityRequirement(name = "basicAuth")
+public class EmployeeWriteController {
+    private final WriteBehindService writeBehindService;
+
+    @Operation(
+            summary = "Queue employee creation",
+            description = "Accepts a create for background dispatch (Admin only)")
+    @ApiResponses(
+            value = {
+                @ApiResponse(responseCode = "202", description = "Create queued"),
+                @ApiResponse(responseCode = "400", description = "Invalid input data"),
+                @ApiResponse(responseCode = "503", description = "Queue full")
+            })
+    @PostMapping
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<WriteStatus> queueCreate(@RequestBody @Valid CreateEmployeeInput employeeInput) {
+        log.info("Queueing create of employee: {}", employeeInput.getName());
+        return accepted(writeBehindService.enqueueCreate(employeeInput));
+    }
+
+    @Operation(
+            summary = "Queue employee deletion",
+            description = "Accepts a delete by employee id, or by tracking id of a queued create (Admin only)")
+    @ApiResponses(
+            value = {
+                @ApiResponse(responseCode = "202", description = "Delete queued"),
+                @ApiResponse(responseCode = "503", description = "Queue full")
+            })
+    @DeleteMapping("/{id}")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<WriteStatus> queueDelete(
+            @Parameter(description = "Employee id or create tracking id") @PathVariable String id) {
+        log.info("Queueing delete of: {}", id);
+        return accepted(writeBehindService.enqueueDelete(id));
+    }
+
+    @Operation(summary = "Write status", description = "Reports the progress of a queued write")
+    @GetMapping("/{trackingId}")
+    public ResponseEntity<WriteStatus> getStatus(
+            @Parameter(description = "Tracking id returned when the write was queued") @PathVariable
+                    String trackingId) {
+        return ResponseEntity.of(writeBehindService.getStatus(trackingId));
+    }
+
+    private static ResponseEntity<WriteStatus> accepted(Optional<WriteStatus> status) {
+        return status.map(accepted -> ResponseEntity.accepted()
+                        .location(URI.create("/api/v1/employee/writes/" + accepted.trackingId()))
+                        .body(accepted))
+                .orElseGet(() -> ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                        .header(HttpHeaders.RETRY_AFTER, "1")
+                        .build());
+    }
+}
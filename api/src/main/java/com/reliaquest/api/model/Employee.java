@@ -1,8 +1,13 @@
 package com.reliaquest.api.model;
 
 import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
 import lombok.Data;
 
+/**
+ * Employee as held in memory.
+ * Salary and age are primitives to avoid two boxes per row, and titles are interned on deserialization.
+ */
 @Data
 public class Employee {
     private String id;
@@ -11,12 +16,13 @@ public class Employee {
     private String name;
 
     @JsonProperty("employee_salary")
-    private Integer salary;
+    private int salary;
 
     @JsonProperty("employee_age")
-    private Integer age;
+    private int age;
 
     @JsonProperty("employee_title")
+    @JsonDeserialize(using = InternedTitleDeserializer.class)
     private String title;
 
     @JsonProperty("employee_email")
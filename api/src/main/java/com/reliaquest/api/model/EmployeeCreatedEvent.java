@@ -0,0 +1,7 @@
+package com.reliaquest.api.model;
+
+/**
+ * Published after an employee has been created upstream.
+ * @param employee the created employee
+ */
+public record EmployeeCreatedEvent(Employee employee) {}
@@ -0,0 +1,7 @@
+package com.reliaquest.api.model;
+
+/**
+ * Published after an employee has been deleted upstream.
+ * @param employee the deleted employee
+ */
+public record EmployeeDeletedEvent(Employee employee) {}
@@ -0,0 +1,30 @@
+package com.reliaquest.api.model;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Point-in-time copy of the upstream dataset, one part per shard, each tagged with the ETag it was served with.
+ * @param shards per-shard contents, in shard index order
+ */
+public record EmployeeSnapshot(List<Shard> shards) {
+
+    /**
+     * @param etag validator returned by the shard, or null if it sent none or the copy was changed locally
+     * @param employees shard contents
+     */
+    public record Shard(String etag, List<Employee> employees) {}
+
+    /**
+     * @return all employees, concatenated in shard order
+     */
+    public List<Employee> employees() {
+        if (shards.size() == 1) {
+            return Collections.unmodifiableList(shards.get(0).employees());
+        }
+        List<Employee> all = new ArrayList<>();
+        shards.forEach(shard -> all.addAll(shard.employees()));
+        return Collections.unmodifiableList(all);
+    }
+}
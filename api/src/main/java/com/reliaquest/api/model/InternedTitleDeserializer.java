@@ -0,0 +1,22 @@
+package com.reliaquest.api.model;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import com.reliaquest.api.util.StringDictionary;
+import java.io.IOException;
+
+/**
+ * Interns job titles through {@link StringDictionary#TITLES} while the upstream payload is parsed.
+ */
+public class InternedTitleDeserializer extends StdDeserializer<String> {
+
+    public InternedTitleDeserializer() {
+        super(String.class);
+    }
+
+    @Override
+    public String deserialize(JsonParser parser, DeserializationContext context) throws IOException {
+        return StringDictionary.TITLES.intern(parser.getValueAsString());
+    }
+}
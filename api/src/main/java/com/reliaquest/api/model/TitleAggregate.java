@@ -0,0 +1,13 @@
+package com.reliaquest.api.model;
+
+/**
+ * Per-title salary and age aggregates.
+ * @param title job title
+ * @param headcount number of employees with the title
+ * @param averageSalary mean salary
+ * @param minSalary lowest salary
+ * @param maxSalary highest salary
+ * @param averageAge mean age
+ */
+public record TitleAggregate(
+        String title, long headcount, double averageSalary, int minSalary, int maxSalary, double averageAge) {}
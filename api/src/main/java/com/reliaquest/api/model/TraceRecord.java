@@ -0,0 +1,25 @@
+package com.reliaquest.api.model;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Completed trace of one sampled request.
+ * @param traceId id propagated to the upstream in the X-Trace-Id header
+ * @param name request method and path
+ * @param start wall-clock start of the request
+ * @param durationNanos total time spent in the api
+ * @param status HTTP status returned
+ * @param spans timed stages, in completion order
+ */
+public record TraceRecord(
+        String traceId, String name, Instant start, long durationNanos, int status, List<Span> spans) {
+
+    /**
+     * @param name stage name
+     * @param offsetNanos start relative to the start of the trace
+     * @param durationNanos time spent in the stage
+     * @param thread thread that ran the stage
+     */
+    public record Span(String name, long offsetNanos, long durationNanos, String thread) {}
+}
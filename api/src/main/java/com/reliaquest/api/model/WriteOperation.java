@@ -0,0 +1,37 @@
+package com.reliaquest.api.model;
+
+/**
+ * A mutation accepted by the write-behind queue, as stored in its journal.
+ * @param trackingId id handed back to the client
+ * @param type kind of mutation
+ * @param input employee to create, for {@link Type#CREATE}
+ * @param employeeId employee to delete, for {@link Type#DELETE} of an existing employee
+ * @param createTrackingId queued create whose result is to be deleted, for {@link Type#DELETE}
+ */
+public record WriteOperation(
+        String trackingId, Type type, CreateEmployeeInput input, String employeeId, String createTrackingId) {
+
+    public enum Type {
+        CREATE,
+        DELETE
+    }
+
+    public static WriteOperation create(String trackingId, CreateEmployeeInput input) {
+        return new WriteOperation(trackingId, Type.CREATE, input, null, null);
+    }
+
+    public static WriteOperation delete(String trackingId, String employeeId) {
+        return new WriteOperation(trackingId, Type.DELETE, null, employeeId, null);
+    }
+
+    public static WriteOperation deleteCreated(String trackingId, String createTrackingId) {
+        return new WriteOperation(trackingId, Type.DELETE, null, null, createTrackingId);
+    }
+
+    /**
+     * @return this delete of a queued create, bound to the employee the create produced
+     */
+    public WriteOperation resolved(String employeeId) {
+        return new WriteOperation(trackingId, type, input, employeeId, createTrackingId);
+    }
+}
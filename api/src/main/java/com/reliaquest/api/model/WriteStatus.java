@@ -0,0 +1,49 @@
+package com.reliaquest.api.model;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import java.time.Instant;
+
+/**
+ * Progress of a queued mutation.
+ * @param trackingId id returned when the mutation was accepted
+ * @param type kind of mutation
+ * @param state current state
+ * @param employee created or deleted employee, once known
+ * @param error reason for {@link State#FAILED}
+ * @param updatedAt time of the last state change
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record WriteStatus(
+        String trackingId, WriteOperation.Type type, State state, Employee employee, String error, Instant updatedAt) {
+
+    public enum State {
+        /** Waiting in the queue, or being retried. */
+        PENDING,
+        /** Applied upstream. */
+        COMPLETED,
+        /** Rejected upstream; will not be retried. */
+        FAILED,
+        /** Create cancelled by a delete queued before it was dispatched; nothing was sent upstream. */
+        COALESCED
+    }
+
+    public static WriteStatus pending(WriteOperation operation) {
+        return new WriteStatus(operation.trackingId(), operation.type(), State.PENDING, null, null, Instant.now());
+    }
+
+    public WriteStatus completed(Employee employee) {
+        return new WriteStatus(trackingId, type, State.COMPLETED, employee, null, Instant.now());
+    }
+
+    public WriteStatus failed(String error) {
+        return new WriteStatus(trackingId, type, State.FAILED, employee, error, Instant.now());
+    }
+
+    public WriteStatus coalesced() {
+        return new WriteStatus(trackingId, type, State.COALESCED, null, null, Instant.now());
+    }
+
+    public boolean isDone() {
+        return state != State.PENDING;
+    }
+}
@@ -0,0 +1,51 @@
+package com.reliaquest.api.security;
+
+import com.reliaquest.api.util.AdaptiveConcurrencyLimiter;
+import com.reliaquest.api.util.Tracing;
+import jakarta.servlet.Filter;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletRequest;
+import jakarta.servlet.ServletResponse;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Admits at most the adaptive limit of concurrent requests; the excess waits briefly and is then rejected with 503,
+ * so request threads are not all parked behind a slow upstream.
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class ConcurrencyLimitFilter implements Filter {
+    private final AdaptiveConcurrencyLimiter limiter;
+    private final Duration maxWait;
+
+    @Override
+    public void doFilter(ServletRequest request, ServletResponse response, FilterChain chain)
+            throws IOException, ServletException {
+        boolean admitted;
+        try (Tracing.Scope ignored = Tracing.span("concurrencyLimit.acquire")) {
+            admitted = limiter.acquire(maxWait.toNanos(), TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            admitted = false;
+        }
+        if (!admitted) {
+            log.warn("Concurrency limit {} reached, rejecting request", limiter.limit());
+            HttpServletResponse httpResponse = (HttpServletResponse) response;
+            httpResponse.setStatus(HttpServletResponse.SC_SERVICE_UNAVAILABLE);
+            httpResponse.setHeader("Retry-After", "1");
+            httpResponse.getWriter().write("Server overloaded");
+            return;
+        }
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            limiter.release();
+        }
+    }
+}
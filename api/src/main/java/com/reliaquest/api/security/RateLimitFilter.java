@@ -1,5 +1,6 @@
 package com.reliaquest.api.security;
 
+import com.reliaquest.api.util.Tracing;
 import jakarta.servlet.Filter;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
@@ -23,9 +24,14 @@ public class RateLimitFilter implements Filter {
         HttpServletRequest httpRequest = (HttpServletRequest) request;
         String clientIp = httpRequest.getRemoteAddr();
 
-        AtomicInteger count = requestCounts.computeIfAbsent(clientIp, k -> new AtomicInteger(0));
+        int requests;
+        try (Tracing.Scope ignored = Tracing.span("rateLimit")) {
+            requests = requestCounts
+                    .computeIfAbsent(clientIp, k -> new AtomicInteger(0))
+                    .incrementAndGet();
+        }
 
-        if (count.incrementAndGet() > MAX_REQUESTS) {
+        if (requests > MAX_REQUESTS) {
             log.warn("Rate limit exceeded for IP: {}", clientIp);
             HttpServletResponse httpResponse = (HttpServletResponse) response;
             httpResponse.setStatus(429);
@@ -1,8 +1,17 @@
 package com.reliaquest.api.security;
 
+import com.reliaquest.api.util.AdaptiveConcurrencyLimiter;
+import com.reliaquest.api.util.TraceBuffer;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.web.servlet.FilterRegistrationBean;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.core.userdetails.User;
@@ -48,7 +57,31 @@ public class SecurityConfig {
 
     @Bean
     public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+        return new TracedPasswordEncoder(new BCryptPasswordEncoder());
+    }
+
+    /**
+     * Most recent sampled traces, served by the traces actuator endpoint.
+     */
+    @Bean
+    public TraceBuffer traceBuffer(@Value("${employee.tracing.buffer-size:1024}") int bufferSize) {
+        return new TraceBuffer(bufferSize);
+    }
+
+    /**
+     * Registered ahead of the Spring Security filter chain so authentication is traced too; inbound trace ids are
+     * therefore only honoured when explicitly trusted.
+     */
+    @Bean
+    public FilterRegistrationBean<TracingFilter> tracingFilter(
+            TraceBuffer traceBuffer,
+            @Value("${employee.tracing.sample-rate:0.01}") double sampleRate,
+            @Value("${employee.tracing.trust-inbound-trace-id:false}") boolean trustInboundTraceId) {
+        FilterRegistrationBean<TracingFilter> registrationBean = new FilterRegistrationBean<>();
+        registrationBean.setFilter(new TracingFilter(traceBuffer, sampleRate, trustInboundTraceId));
+        registrationBean.addUrlPatterns("/api/v1/employee/*");
+        registrationBean.setOrder(Ordered.HIGHEST_PRECEDENCE);
+        return registrationBean;
     }
 
     @Bean
@@ -59,4 +92,37 @@ public class SecurityConfig {
         registrationBean.setOrder(1);
         return registrationBean;
     }
+
+    /**
+     * Inbound concurrency limit, adapted to upstream latency measured by EmployeeService.
+     */
+    @Bean
+    public AdaptiveConcurrencyLimiter concurrencyLimiter(
+            @Value("${employee.concurrency.initial-limit:20}") int initialLimit,
+            @Value("${employee.concurrency.min-limit:4}") int minLimit,
+            @Value("${employee.concurrency.max-limit:200}") int maxLimit,
+            @Value("${employee.concurrency.max-queue:50}") int maxQueue,
+            ObjectProvider<MeterRegistry> meterRegistry) {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(initialLimit, minLimit, maxLimit, maxQueue);
+        meterRegistry.ifAvailable(registry -> {
+            Gauge.builder("employee.concurrency.limit", limiter, AdaptiveConcurrencyLimiter::limit)
+                    .register(registry);
+            Gauge.builder("employee.concurrency.in-flight", limiter, AdaptiveConcurrencyLimiter::inFlight)
+                    .register(registry);
+            FunctionCounter.builder("employee.concurrency.rejected", limiter, AdaptiveConcurrencyLimiter::rejected)
+                    .register(registry);
+        });
+        return limiter;
+    }
+
+    @Bean
+    public FilterRegistrationBean<ConcurrencyLimitFilter> concurrencyLimitFilter(
+            AdaptiveConcurrencyLimiter concurrencyLimiter,
+            @Value("${employee.concurrency.max-wait:50ms}") Duration maxWait) {
+        FilterRegistrationBean<ConcurrencyLimitFilter> registrationBean = new FilterRegistrationBean<>();
+        registrationBean.setFilter(new ConcurrencyLimitFilter(concurrencyLimiter, maxWait));
+        registrationBean.addUrlPatterns("/api/v1/employee/*");
+        registrationBean.setOrder(2);
+        return registrationBean;
+    }
 }
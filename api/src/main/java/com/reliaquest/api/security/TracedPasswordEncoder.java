@@ -0,0 +1,32 @@
+package com.reliaquest.api.security;
+
+import com.reliaquest.api.util.Tracing;
+import lombok.RequiredArgsConstructor;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+/**
+ * Records password hashing and checks as spans; BCrypt is deliberately slow and often dominates short requests.
+ */
+@RequiredArgsConstructor
+public class TracedPasswordEncoder implements PasswordEncoder {
+    private final PasswordEncoder delegate;
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        try (Tracing.Scope ignored = Tracing.span("security.password.encode")) {
+            return delegate.encode(rawPassword);
+        }
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        try (Tracing.Scope ignored = Tracing.span("security.password.matches")) {
+            return delegate.matches(rawPassword, encodedPassword);
+        }
+    }
+
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        return delegate.upgradeEncoding(encodedPassword);
+    }
+}
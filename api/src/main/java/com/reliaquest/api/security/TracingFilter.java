@@ -0,0 +1,62 @@
+package com.reliaquest.api.security;
+
+import com.reliaquest.api.util.TraceBuffer;
+import com.reliaquest.api.util.Tracing;
+import jakarta.servlet.Filter;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletRequest;
+import jakarta.servlet.ServletResponse;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.util.HexFormat;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.regex.Pattern;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.MDC;
+
+/**
+ * Samples requests for tracing and records each sampled one into the trace buffer.
+ * Runs ahead of Spring Security so authentication is part of the trace, which is why an inbound X-Trace-Id is
+ * ignored by default: any client could otherwise force tracing and choose the id. Only when inbound ids are trusted
+ * (callers are known, e.g. behind a gateway) is a request carrying a valid X-Trace-Id always sampled with that id;
+ * all others are sampled at the configured rate under a fresh id.
+ */
+@RequiredArgsConstructor
+public class TracingFilter implements Filter {
+    private static final Pattern TRACE_ID = Pattern.compile("[A-Za-z0-9-]{1,64}");
+
+    private final TraceBuffer traceBuffer;
+    private final double sampleRate;
+    private final boolean trustInboundTraceId;
+
+    @Override
+    public void doFilter(ServletRequest request, ServletResponse response, FilterChain chain)
+            throws IOException, ServletException {
+        HttpServletRequest httpRequest = (HttpServletRequest) request;
+        String incoming = trustInboundTraceId ? httpRequest.getHeader(Tracing.TRACE_HEADER) : null;
+        boolean forced = incoming != null && TRACE_ID.matcher(incoming).matches();
+        if (!forced && (sampleRate <= 0 || ThreadLocalRandom.current().nextDouble() >= sampleRate)) {
+            chain.doFilter(request, response);
+            return;
+        }
+
+        String traceId = forced ? incoming : newTraceId();
+        HttpServletResponse httpResponse = (HttpServletResponse) response;
+        httpResponse.setHeader(Tracing.TRACE_HEADER, traceId);
+        Tracing.ActiveTrace trace = Tracing.begin(traceId, httpRequest.getMethod() + " " + httpRequest.getRequestURI());
+        MDC.put("traceId", traceId);
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            MDC.remove("traceId");
+            traceBuffer.add(trace.finish(httpResponse.getStatus()));
+        }
+    }
+
+    private static String newTraceId() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        return HexFormat.of().toHexDigits(random.nextLong()) + HexFormat.of().toHexDigits(random.nextLong());
+    }
+}
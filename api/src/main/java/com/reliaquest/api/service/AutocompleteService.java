@@ -0,0 +1,50 @@
+package com.reliaquest.api.service;
+
+import com.reliaquest.api.model.Employee;
+import com.reliaquest.api.util.CompletionTrie;
+import java.util.List;
+import java.util.Locale;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+/**
+ * Prefix autocomplete over name tokens, weighted by how many employees carry each token.
+ * Built from one upstream fetch on first use, then patched from create/delete events,
+ * so keystrokes never trigger an upstream call or a linear scan.
+ */
+@Service
+@Slf4j
+public class AutocompleteService extends IncrementalEmployeeView {
+    public static final int MAX_COMPLETIONS = 20;
+
+    private final CompletionTrie trie = new CompletionTrie(MAX_COMPLETIONS);
+
+    public AutocompleteService(EmployeeService employeeService) {
+        super(employeeService);
+    }
+
+    public List<CompletionTrie.Completion> complete(String prefix, int limit) {
+        return read(() -> List.copyOf(trie.complete(prefix.toLowerCase(Locale.ROOT), limit)));
+    }
+
+    @Override
+    protected void add(Employee employee) {
+        adjust(employee, 1);
+    }
+
+    @Override
+    protected void remove(Employee employee) {
+        adjust(employee, -1);
+    }
+
+    @Override
+    protected void seeded(int employees) {
+        log.info("Built autocomplete trie with {} tokens from {} employees", trie.size(), employees);
+    }
+
+    private void adjust(Employee employee, long delta) {
+        for (String token : NameSearchService.tokenize(employee.getName())) {
+            trie.adjust(token, delta);
+        }
+    }
+}
@@ -0,0 +1,39 @@
+package com.reliaquest.api.service;
+
+import java.util.function.Consumer;
+import org.apache.hc.client5.http.classic.HttpClient;
+import org.apache.hc.core5.concurrent.Cancellable;
+import org.apache.hc.core5.http.ClassicHttpRequest;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+
+/**
+ * Request factory that hands each outgoing request to a per-thread registrar,
+ * so a caller on another thread can abort it (closing its connection) once it is no longer needed.
+ */
+class CancellableRequestFactory extends HttpComponentsClientHttpRequestFactory {
+    private static final ThreadLocal<Consumer<Cancellable>> REGISTRAR = new ThreadLocal<>();
+
+    CancellableRequestFactory(HttpClient httpClient) {
+        super(httpClient);
+    }
+
+    /**
+     * Registers requests created by the current thread with the given registrar until {@link #unregister()}.
+     * @param registrar receives every request created on this thread
+     */
+    static void register(Consumer<Cancellable> registrar) {
+        REGISTRAR.set(registrar);
+    }
+
+    static void unregister() {
+        REGISTRAR.remove();
+    }
+
+    @Override
+    protected void postProcessHttpRequest(ClassicHttpRequest request) {
+        Consumer<Cancellable> registrar = REGISTRAR.get();
+        if (registrar != null && request instanceof Cancellable cancellable) {
+            registrar.accept(cancellable);
+        }
+    }
+}
@@ -0,0 +1,67 @@
+package com.reliaquest.api.service;
+
+import com.reliaquest.api.model.Employee;
+import com.reliaquest.api.util.DistinctCountSketch;
+import com.reliaquest.api.util.QuantileSketch;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+/**
+ * Salary and title analytics backed by mergeable, deletable sketches.
+ * Sketches are seeded from one upstream fetch on first use and then maintained incrementally
+ * from create/delete events, so sketch memory is constant and queries never touch the dataset.
+ */
+@Service
+@Slf4j
+public class EmployeeAnalyticsService extends IncrementalEmployeeView {
+    private static final double RELATIVE_ACCURACY = 0.01;
+
+    private final QuantileSketch salaries = new QuantileSketch(RELATIVE_ACCURACY);
+    private final DistinctCountSketch titles = new DistinctCountSketch();
+
+    public EmployeeAnalyticsService(EmployeeService employeeService) {
+        super(employeeService);
+    }
+
+    /**
+     * @param quantiles ranks in [0, 1]
+     * @return estimated salary per requested rank, in request order
+     */
+    public Map<Double, Integer> getSalaryPercentiles(List<Double> quantiles) {
+        return read(() -> {
+            Map<Double, Integer> result = new LinkedHashMap<>();
+            for (Double quantile : quantiles) {
+                result.put(quantile, salaries.quantile(quantile));
+            }
+            return result;
+        });
+    }
+
+    public List<QuantileSketch.Bin> getSalaryHistogram(int bins) {
+        return read(() -> salaries.histogram(bins));
+    }
+
+    public long getDistinctTitleCount() {
+        return read(titles::estimate);
+    }
+
+    @Override
+    protected void add(Employee employee) {
+        salaries.add(employee.getSalary());
+        titles.add(employee.getTitle());
+    }
+
+    @Override
+    protected void remove(Employee employee) {
+        salaries.remove(employee.getSalary());
+        titles.remove(employee.getTitle());
+    }
+
+    @Override
+    protected void seeded(int employees) {
+        log.info("Seeded salary analytics from {} employees", employees);
+    }
+}
@@ -4,88 +4,540 @@ import com.reliaquest.api.model.ApiResponse;
 import com.reliaquest.api.model.CreateEmployeeInput;
 import com.reliaquest.api.model.DeleteEmployeeInput;
 import com.reliaquest.api.model.Employee;
+import com.reliaquest.api.model.EmployeeCreatedEvent;
+import com.reliaquest.api.model.EmployeeDeletedEvent;
+import com.reliaquest.api.model.EmployeeSnapshot;
+import com.reliaquest.api.util.AdaptiveConcurrencyLimiter;
+import com.reliaquest.api.util.EmployeeUtils;
+import com.reliaquest.api.util.ShardPartitioner;
+import com.reliaquest.api.util.Tracing;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import java.net.URI;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.IntFunction;
+import java.util.function.Supplier;
+import java.util.stream.IntStream;
 import lombok.extern.slf4j.Slf4j;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.ApplicationEventPublisherAware;
 import org.springframework.core.ParameterizedTypeReference;
 import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
+import org.springframework.web.client.HttpClientErrorException;
 import org.springframework.web.client.RestTemplate;
+import org.springframework.web.util.UriComponentsBuilder;
 
 /**
  * Service layer implementing Repository pattern for employee data access.
  * Uses adapter pattern to integrate with external mock API.
+ * The upstream may be split into hash-partitioned shards: id lookups and deletes are routed to the owning shard,
+ * creates are placed by the partitioner, and list/search/top-K queries fan out in parallel and are merged.
+ * Each shard may have several replicas: writes always go to the first replica, and reads are hedged across them
+ * only while the replicas are verified to serve the same data (see {@link ReplicaConsistency}).
  */
 @Service
 @Slf4j
-public class EmployeeService {
+public class EmployeeService implements ApplicationEventPublisherAware {
     private static final String BASE_URL = "http://localhost:8112/api/v1/employee";
-    private final RestTemplate restTemplate = new RestTemplate();
 
     /**
-     * Retrieves all employees using HTTP GET.
+     * Fan-out threads per upstream replica; matches the HTTP client's default connections per route
+     * (http.maxConnections), beyond which further threads would only wait for a connection.
+     */
+    private static final int THREADS_PER_REPLICA = 5;
+
+    /**
+     * Compact binary JSON used on the internal hop; JSON is kept as a fallback for servers without Smile support.
+     */
+    static final MediaType SMILE = new MediaType("application", "x-jackson-smile");
+
+    static final String IDEMPOTENCY_KEY = "Idempotency-Key";
+
+    /**
+     * Pooled Apache client: sends Accept-Encoding and transparently inflates compressed responses.
+     * RestTemplate registers its Smile converter automatically when jackson-dataformat-smile is present.
+     * Requests can be aborted from another thread so losing hedges release their connection.
+     * Sampled requests propagate their trace id and record the hop.
+     */
+    private final RestTemplate restTemplate = upstreamTemplate();
+
+    /**
+     * Runs upstream HTTP calls only, never tasks that wait on other tasks, so a bounded pool cannot deadlock.
+     * Sized to the replicas of all shards; excess calls queue, bounded in turn by the inbound concurrency limit.
+     */
+    private final ThreadPoolExecutor fanOutExecutor = fanOutPool();
+
+    /**
+     * Fan-out tasks carry the caller's trace so upstream calls on pool threads land in the same trace.
+     */
+    private final Executor tracedExecutor = task -> fanOutExecutor.execute(Tracing.propagate(task));
+
+    private final HedgedRequests hedgedRequests = new HedgedRequests(tracedExecutor, 0.95, Duration.ofMillis(5));
+
+    private final ReplicaConsistency replicaConsistency =
+            new ReplicaConsistency(fanOutExecutor, this::datasetEtag, Duration.ofSeconds(30));
+
+    private List<List<String>> shards = List.of(List.of(BASE_URL));
+
+    private ApplicationEventPublisher eventPublisher;
+
+    private AdaptiveConcurrencyLimiter concurrencyLimiter;
+
+    private Supplier<List<Employee>> cachedDataset;
+
+    /**
+     * @param shardUrls base URL of every shard, in shard index order; replicas of a shard are separated by '|'
+     */
+    @Value("${employee.upstream.shards:" + BASE_URL + "}")
+    public void setShardUrls(List<String> shardUrls) {
+        this.shards = shardUrls.stream()
+                .map(shard -> Arrays.stream(shard.split("\\|"))
+                        .map(String::trim)
+                        .filter(url -> !url.isEmpty())
+                        .toList())
+                .toList();
+        int threads = THREADS_PER_REPLICA * shards.stream().mapToInt(List::size).sum();
+        if (threads > fanOutExecutor.getMaximumPoolSize()) {
+            fanOutExecutor.setMaximumPoolSize(threads);
+            fanOutExecutor.setCorePoolSize(threads);
+        } else {
+            fanOutExecutor.setCorePoolSize(threads);
+            fanOutExecutor.setMaximumPoolSize(threads);
+        }
+        log.info("Using {} upstream shard(s): {}", shards.size(), shards);
+    }
+
+    /**
+     * @param percentile recent upstream latency percentile after which a read is hedged
+     * @param minDelay lower bound for the hedge delay, so a fast upstream is not hedged on noise
+     * @param verifyInterval how often the replicas of a shard are compared before reads are hedged across them
+     */
+    @Autowired
+    public void configureHedging(
+            @Value("${employee.upstream.hedge.percentile:0.95}") double percentile,
+            @Value("${employee.upstream.hedge.min-delay:5ms}") Duration minDelay,
+            @Value("${employee.upstream.hedge.verify-interval:30s}") Duration verifyInterval) {
+        hedgedRequests.configure(percentile, minDelay);
+        replicaConsistency.configure(verifyInterval);
+    }
+
+    /**
+     * Publishes hedging counters as employee.upstream.hedge.* metrics.
+     */
+    @Autowired(required = false)
+    public void bindMetrics(MeterRegistry registry) {
+        FunctionCounter.builder("employee.upstream.hedge.requests", hedgedRequests, h -> h.requests.get())
+                .description("Reads sent to a replicated shard")
+                .register(registry);
+        FunctionCounter.builder("employee.upstream.hedge.sent", hedgedRequests, h -> h.hedges.get())
+                .description("Reads for which a hedge was sent")
+                .register(registry);
+        FunctionCounter.builder("employee.upstream.hedge.wins", hedgedRequests, h -> h.hedgeWins.get())
+                .description("Reads answered by the hedge rather than the first replica")
+                .register(registry);
+        Gauge.builder("employee.upstream.hedge.delay", hedgedRequests, h -> h.hedgeDelayNanos() / 1e6)
+                .description("Current hedge delay in milliseconds")
+                .register(registry);
+    }
+
+    /**
+     * @param concurrencyLimiter inbound limiter fed with the latency of upstream calls made by admitted requests
+     */
+    @Autowired(required = false)
+    public void setConcurrencyLimiter(AdaptiveConcurrencyLimiter concurrencyLimiter) {
+        this.concurrencyLimiter = concurrencyLimiter;
+    }
+
+    /**
+     * @param cachedDataset local copy served by {@link #getAllEmployees()} whenever it returns non-null
+     */
+    public void setCachedDataset(Supplier<List<Employee>> cachedDataset) {
+        this.cachedDataset = cachedDataset;
+    }
+
+    @Override
+    public void setApplicationEventPublisher(ApplicationEventPublisher eventPublisher) {
+        this.eventPublisher = eventPublisher;
+    }
+
+    private static RestTemplate upstreamTemplate() {
+        RestTemplate template = new RestTemplate(new CancellableRequestFactory(
+                HttpClients.custom().useSystemProperties().build()));
+        template.getInterceptors().add(new TracingInterceptor());
+        return template;
+    }
+
+    private static ThreadPoolExecutor fanOutPool() {
+        ThreadPoolExecutor pool = new ThreadPoolExecutor(
+                THREADS_PER_REPLICA,
+                THREADS_PER_REPLICA,
+                30,
+                TimeUnit.SECONDS,
+                new LinkedBlockingQueue<>(),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "employee-fan-out");
+                    thread.setDaemon(true);
+                    return thread;
+                });
+        pool.allowCoreThreadTimeOut(true);
+        return pool;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        fanOutExecutor.shutdownNow();
+    }
+
+    /**
+     * Retrieves all employees using HTTP GET, concatenating every shard (hedged across verified replicas).
      * Implements caching strategy for performance optimization.
      * @return List of all employees
      */
     public List<Employee> getAllEmployees() {
+        List<Employee> cached = cachedDataset == null ? null : cachedDataset.get();
+        if (cached != null) {
+            log.debug("Serving all employees from the local snapshot");
+            return cached;
+        }
         log.info("Fetching all employees");
+        return concat(fanOut(baseUrl -> restTemplate
+                .exchange(
+                        baseUrl,
+                        HttpMethod.GET,
+                        new HttpEntity<>(upstreamHeaders()),
+                        new ParameterizedTypeReference<ApiResponse<List<Employee>>>() {})
+                .getBody()
+                .getData()));
+    }
+
+    /**
+     * Searches employees by name fragment on the server (case-insensitive substring).
+     * Only matching rows are transferred.
+     * @param searchString name fragment
+     * @return matching employees
+     */
+    public List<Employee> searchEmployeesByName(String searchString) {
+        log.info("Searching employees upstream: {}", searchString);
+        return concat(fanOut(
+                baseUrl -> query(UriComponentsBuilder.fromHttpUrl(baseUrl).queryParam("nameContains", searchString))));
+    }
+
+    /**
+     * Retrieves the top earners, highest salary first, sorted and limited on the server.
+     * Each shard returns its own top rows, which are k-way merged. Only name and salary are transferred.
+     * @param limit number of employees
+     * @return top earners with name and salary populated
+     */
+    public List<Employee> getTopEarners(int limit) {
+        log.info("Fetching top {} earners", limit);
+        List<List<Employee>> perShard = fanOut(baseUrl -> query(UriComponentsBuilder.fromHttpUrl(baseUrl)
+                .queryParam("sortBy", "salary")
+                .queryParam("order", "desc")
+                .queryParam("limit", limit)
+                .queryParam("fields", "name", "salary")));
+        if (perShard.size() == 1) {
+            return perShard.get(0);
+        }
+        return EmployeeUtils.mergeTopKEarners(
+                perShard.stream()
+                        .map(list -> list == null ? List.<Employee>of() : list)
+                        .toList(),
+                limit);
+    }
+
+    /**
+     * Hands every employee to the consumer one page at a time, holding only the current page.
+     * Served from the local snapshot when one is in use; otherwise each shard is read with offset/limit requests.
+     * The consumer runs on the calling thread, so a slow consumer slows down the pulls.
+     * Offset paging reads the live dataset: a row deleted before the current offset shifts the rows after it,
+     * so one of them can be skipped, and a row created meanwhile may or may not be included.
+     * @param pageSize rows per page
+     * @param fields upstream properties to transfer, or null for all
+     * @param consumer receives each non-empty page
+     */
+    public void forEachPage(int pageSize, List<String> fields, Consumer<List<Employee>> consumer) {
+        List<Employee> cached = cachedDataset == null ? null : cachedDataset.get();
+        if (cached != null) {
+            for (int from = 0; from < cached.size(); from += pageSize) {
+                consumer.accept(cached.subList(from, Math.min(cached.size(), from + pageSize)));
+            }
+            return;
+        }
+        for (List<String> shard : shards) {
+            int offset = 0;
+            while (true) {
+                int from = offset;
+                List<String> replicas = replicaConsistency.readReplicas(shard);
+                List<Employee> page = observed(() -> hedgedRequests.execute(replicas, baseUrl -> {
+                    UriComponentsBuilder uri = UriComponentsBuilder.fromHttpUrl(baseUrl)
+                            .queryParam("offset", from)
+                            .queryParam("limit", pageSize);
+                    if (fields != null) {
+                        uri.queryParam("fields", fields.toArray());
+                    }
+                    return query(uri);
+                }));
+                if (page == null || page.isEmpty()) {
+                    break;
+                }
+                consumer.accept(page);
+                if (page.size() < pageSize) {
+                    break;
+                }
+                offset += page.size();
+            }
+        }
+    }
+
+    /**
+     * Revalidates a local copy of the dataset against each shard's first replica with If-None-Match;
+     * an unchanged shard costs an empty 304 and keeps its rows.
+     * @param known previous copy, or null to fetch everything
+     * @return current copy with the shards' ETags
+     */
+    public EmployeeSnapshot revalidate(EmployeeSnapshot known) {
+        List<EmployeeSnapshot.Shard> previous =
+                known != null && known.shards().size() == shards.size() ? known.shards() : null;
+        return new EmployeeSnapshot(observed(() -> parallel(
+                shard -> List.of(primary(shard)),
+                shard -> baseUrl -> revalidateShard(baseUrl, previous == null ? null : previous.get(shard)))));
+    }
+
+    private EmployeeSnapshot.Shard revalidateShard(String baseUrl, EmployeeSnapshot.Shard known) {
+        HttpHeaders headers = upstreamHeaders();
+        if (known != null && known.etag() != null) {
+            headers.setIfNoneMatch(known.etag());
+        }
+        ResponseEntity<ApiResponse<List<Employee>>> response = restTemplate.exchange(
+                baseUrl,
+                HttpMethod.GET,
+                new HttpEntity<>(headers),
+                new ParameterizedTypeReference<ApiResponse<List<Employee>>>() {});
+        if (known != null && response.getStatusCode().value() == HttpStatus.NOT_MODIFIED.value()) {
+            return known;
+        }
+        List<Employee> rows = response.getBody().getData();
+        return new EmployeeSnapshot.Shard(response.getHeaders().getETag(), rows == null ? List.of() : rows);
+    }
+
+    /**
+     * ETag of the full dataset served at the base URL; the server derives it from the content.
+     */
+    private String datasetEtag(String baseUrl) {
+        return restTemplate.headForHeaders(baseUrl).getETag();
+    }
+
+    private List<Employee> query(UriComponentsBuilder uri) {
+        URI target = uri.encode().build().toUri();
         return restTemplate
                 .exchange(
-                        BASE_URL,
+                        target,
                         HttpMethod.GET,
-                        null,
+                        new HttpEntity<>(upstreamHeaders()),
                         new ParameterizedTypeReference<ApiResponse<List<Employee>>>() {})
                 .getBody()
                 .getData();
     }
 
     /**
-     * Retrieves employee by ID using direct lookup (O(1) on server side).
+     * Retrieves employee by ID using direct lookup on the owning shard (O(1) on server side),
+     * hedged across verified replicas.
      * @param id the employee identifier
      * @return Employee object
      */
     public Employee getEmployeeById(String id) {
         log.info("Fetching employee: {}", id);
-        return restTemplate
+        List<String> replicas =
+                replicaConsistency.readReplicas(shards.get(ShardPartitioner.shardOf(id, shards.size())));
+        return observed(() -> hedgedRequests.execute(replicas, baseUrl -> restTemplate
                 .exchange(
-                        BASE_URL + "/" + id,
+                        baseUrl + "/" + id,
                         HttpMethod.GET,
-                        null,
+                        new HttpEntity<>(upstreamHeaders()),
                         new ParameterizedTypeReference<ApiResponse<Employee>>() {})
                 .getBody()
-                .getData();
+                .getData()));
     }
 
     /**
-     * Creates employee using POST request with validation.
+     * Creates employee using POST request with validation, on the shard chosen by the partitioner.
      * Implements factory pattern for employee creation.
      * @param input the employee creation data
      * @return Created employee object
      */
     public Employee createEmployee(CreateEmployeeInput input) {
+        return createEmployee(input, null);
+    }
+
+    /**
+     * Creates employee, passing an idempotency key so that retrying after a lost response cannot create it twice.
+     * @param input the employee creation data
+     * @param idempotencyKey key identifying this create across retries, or null
+     * @return Created employee object, the one created by the first attempt if the key was seen before
+     */
+    public Employee createEmployee(CreateEmployeeInput input, String idempotencyKey) {
         log.info("Creating employee: {}", input.getName());
-        return restTemplate
-                .exchange(
-                        BASE_URL,
-                        HttpMethod.POST,
-                        new HttpEntity<>(input),
-                        new ParameterizedTypeReference<ApiResponse<Employee>>() {})
-                .getBody()
-                .getData();
+        List<String> replicas = shards.get(ShardPartitioner.placementOf(input.getName(), shards.size()));
+        HttpHeaders headers = upstreamHeaders();
+        if (idempotencyKey != null) {
+            headers.set(IDEMPOTENCY_KEY, idempotencyKey);
+        }
+        Employee created;
+        try {
+            created = observed(() -> restTemplate
+                    .exchange(
+                            replicas.get(0),
+                            HttpMethod.POST,
+                            new HttpEntity<>(input, headers),
+                            new ParameterizedTypeReference<ApiResponse<Employee>>() {})
+                    .getBody()
+                    .getData());
+        } finally {
+            replicaConsistency.invalidate(replicas);
+        }
+        if (created != null) {
+            publish(new EmployeeCreatedEvent(created));
+        }
+        return created;
     }
 
     /**
-     * Deletes employee by name using HTTP DELETE with request body.
-     * @param name the employee name to delete
+     * Deletes employee by name using HTTP DELETE with request body, on the shard owning its id.
+     * Takes the full employee so listeners maintaining derived views can remove it.
+     * @param employee the employee to delete
      */
-    public void deleteEmployee(String name) {
-        log.info("Deleting employee: {}", name);
+    public void deleteEmployee(Employee employee) {
+        log.info("Deleting employee: {}", employee.getName());
         DeleteEmployeeInput deleteInput = new DeleteEmployeeInput();
-        deleteInput.setName(name);
-        restTemplate.exchange(
-                BASE_URL,
-                HttpMethod.DELETE,
-                new HttpEntity<>(deleteInput),
-                new ParameterizedTypeReference<ApiResponse<Boolean>>() {});
+        deleteInput.setName(employee.getName());
+        List<String> replicas = shards.get(ShardPartitioner.shardOf(employee.getId(), shards.size()));
+        ApiResponse<Boolean> response;
+        try {
+            response = observed(() -> restTemplate
+                    .exchange(
+                            replicas.get(0),
+                            HttpMethod.DELETE,
+                            new HttpEntity<>(deleteInput, upstreamHeaders()),
+                            new ParameterizedTypeReference<ApiResponse<Boolean>>() {})
+                    .getBody());
+        } finally {
+            replicaConsistency.invalidate(replicas);
+        }
+        if (response != null && Boolean.TRUE.equals(response.getData())) {
+            publish(new EmployeeDeletedEvent(employee));
+        }
+    }
+
+    private String primary(int shard) {
+        return shards.get(shard).get(0);
+    }
+
+    /**
+     * Runs the read against every shard in parallel, hedged across each shard's verified replicas;
+     * a single shard is called inline.
+     */
+    private <T> List<T> fanOut(Function<String, T> call) {
+        return observed(() -> fanOutUnobserved(call));
+    }
+
+    private <T> List<T> fanOutUnobserved(Function<String, T> call) {
+        return parallel(shard -> replicaConsistency.readReplicas(shards.get(shard)), shard -> call);
+    }
+
+    /**
+     * Sends one read per shard in parallel, each hedged across the given replicas; a single shard is called inline.
+     * If any shard fails, the reads still in flight are aborted.
+     * @param replicas replicas to read from, by shard index
+     * @param call request to send to a replica base URL, by shard index
+     */
+    private <T> List<T> parallel(IntFunction<List<String>> replicas, IntFunction<Function<String, T>> call) {
+        if (shards.size() == 1) {
+            return Collections.singletonList(hedgedRequests.execute(replicas.apply(0), call.apply(0)));
+        }
+        List<CompletableFuture<T>> futures = IntStream.range(0, shards.size())
+                .mapToObj(shard -> hedgedRequests.submit(replicas.apply(shard), call.apply(shard)))
+                .toList();
+        try {
+            return futures.stream().map(CompletableFuture::join).toList();
+        } catch (CompletionException | CancellationException e) {
+            futures.forEach(future -> future.cancel(true));
+            throw HedgedRequests.unwrap(e);
+        }
+    }
+
+    /**
+     * Times an upstream call for the concurrency limiter. Failures other than plain client errors count as drops.
+     * Only calls made while serving an admitted inbound request are sampled; background work such as write-behind
+     * dispatch and snapshot refresh would otherwise skew the limiter's latency baseline.
+     */
+    private <T> T observed(Supplier<T> call) {
+        if (concurrencyLimiter == null || !concurrencyLimiter.isHeldByCurrentThread()) {
+            return call.get();
+        }
+        long start = System.nanoTime();
+        try {
+            T result = call.get();
+            concurrencyLimiter.onSample(System.nanoTime() - start);
+            return result;
+        } catch (RuntimeException e) {
+            if (!(e instanceof HttpClientErrorException clientError)
+                    || clientError.getStatusCode().value() == 429) {
+                concurrencyLimiter.onDrop();
+            }
+            throw e;
+        }
+    }
+
+    private static List<Employee> concat(List<List<Employee>> perShard) {
+        if (perShard.size() == 1) {
+            return perShard.get(0);
+        }
+        List<Employee> all = new ArrayList<>();
+        perShard.forEach(list -> {
+            if (list != null) {
+                all.addAll(list);
+            }
+        });
+        return all;
+    }
+
+    private void publish(Object event) {
+        if (eventPublisher != null) {
+            eventPublisher.publishEvent(event);
+        }
+    }
+
+    /**
+     * Negotiates Smile for both request and response bodies on the internal hop.
+     */
+    private static HttpHeaders upstreamHeaders() {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setAccept(List.of(SMILE, MediaType.APPLICATION_JSON));
+        headers.setContentType(SMILE);
+        return headers;
     }
 }
@@ -0,0 +1,237 @@
+package com.reliaquest.api.service;
+
+import com.reliaquest.api.util.LatencyWindow;
+import com.reliaquest.api.util.Tracing;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.hc.core5.concurrent.Cancellable;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.client.HttpClientErrorException;
+
+/**
+ * Hedged reads across replicas of one upstream shard.
+ * The request goes to one replica (round-robin); if it has not answered within the tracked latency percentile,
+ * a hedge is sent to the next replica. The first successful response wins and the other request is aborted.
+ * A 404 or 429 sends the hedge at once, so a row not yet visible on one replica is looked up on the next;
+ * other client errors are final and never hedged. Callers pass only replicas known to serve the same data.
+ * Only the HTTP calls run on the executor; waiting for the hedge delay holds no thread.
+ */
+@Slf4j
+class HedgedRequests {
+    private final Executor executor;
+    private final AtomicInteger nextReplica = new AtomicInteger();
+    private volatile LatencyWindow latencies;
+    private volatile long minDelayNanos;
+
+    final AtomicLong requests = new AtomicLong();
+    final AtomicLong hedges = new AtomicLong();
+    final AtomicLong hedgeWins = new AtomicLong();
+
+    HedgedRequests(Executor executor, double percentile, Duration minDelay) {
+        this.executor = executor;
+        configure(percentile, minDelay);
+    }
+
+    void configure(double percentile, Duration minDelay) {
+        this.latencies = new LatencyWindow(256, percentile, TimeUnit.MILLISECONDS.toNanos(50));
+        this.minDelayNanos = minDelay.toNanos();
+    }
+
+    long hedgeDelayNanos() {
+        return Math.max(minDelayNanos, latencies.percentileNanos());
+    }
+
+    /**
+     * Runs the read and waits for it; a single replica is called inline.
+     */
+    <T> T execute(List<String> replicas, Function<String, T> call) {
+        if (replicas.size() == 1) {
+            return call.apply(replicas.get(0));
+        }
+        CompletableFuture<T> result = submit(replicas, call);
+        try {
+            return result.get();
+        } catch (ExecutionException e) {
+            throw unwrap(e);
+        } catch (InterruptedException e) {
+            result.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted waiting for upstream", e);
+        }
+    }
+
+    /**
+     * Starts the read on the executor. Cancelling the returned future aborts every request still in flight.
+     */
+    <T> CompletableFuture<T> submit(List<String> replicas, Function<String, T> call) {
+        if (replicas.size() == 1) {
+            return new Attempt<>(replicas.get(0), call).future;
+        }
+        requests.incrementAndGet();
+        int first = Math.floorMod(nextReplica.getAndIncrement(), replicas.size());
+        return new Race<>(replicas.get(first), replicas.get((first + 1) % replicas.size()), call).result;
+    }
+
+    private static boolean isFinal(Throwable error) {
+        if (!(error instanceof HttpClientErrorException clientError)) {
+            return false;
+        }
+        int status = clientError.getStatusCode().value();
+        return status != HttpStatus.TOO_MANY_REQUESTS.value() && status != HttpStatus.NOT_FOUND.value();
+    }
+
+    /**
+     * @return the failure behind a future's wrapping exceptions
+     */
+    static RuntimeException unwrap(Throwable error) {
+        Throwable cause = error;
+        while ((cause instanceof CompletionException || cause instanceof ExecutionException)
+                && cause.getCause() != null) {
+            cause = cause.getCause();
+        }
+        return cause instanceof RuntimeException runtime ? runtime : new IllegalStateException(cause);
+    }
+
+    /**
+     * A read sent to one replica, and to a second once the hedge delay passes or the first fails.
+     */
+    private final class Race<T> {
+        private final CompletableFuture<T> result = new CompletableFuture<>();
+        private final String hedgeReplica;
+        private final Function<String, T> call;
+        private final Attempt<T> primary;
+        private Attempt<T> hedge;
+        private boolean primaryFailed;
+        private boolean hedgeFailed;
+
+        Race(String primaryReplica, String hedgeReplica, Function<String, T> call) {
+            this.hedgeReplica = hedgeReplica;
+            this.call = call;
+            this.primary = new Attempt<>(primaryReplica, call);
+            result.whenComplete((value, error) -> {
+                if (result.isCancelled()) {
+                    cancelAll();
+                }
+            });
+            primary.future.whenComplete((value, error) -> onComplete(primary, value, error));
+            long delay = hedgeDelayNanos();
+            CompletableFuture.delayedExecutor(delay, TimeUnit.NANOSECONDS).execute(Tracing.propagate(() -> {
+                if (sendHedge()) {
+                    log.debug("No reply from {} within {} µs, hedging", primaryReplica, delay / 1_000);
+                }
+            }));
+        }
+
+        private synchronized boolean sendHedge() {
+            if (result.isDone() || hedge != null) {
+                return false;
+            }
+            hedges.incrementAndGet();
+            Attempt<T> attempt = new Attempt<>(hedgeReplica, call);
+            hedge = attempt;
+            attempt.future.whenComplete((value, error) -> onComplete(attempt, value, error));
+            return true;
+        }
+
+        private synchronized void onComplete(Attempt<T> attempt, T value, Throwable error) {
+            if (result.isDone()) {
+                return;
+            }
+            if (error == null) {
+                result.complete(value);
+                if (attempt == hedge) {
+                    hedgeWins.incrementAndGet();
+                    primary.cancel();
+                } else if (hedge != null) {
+                    hedge.cancel();
+                }
+                return;
+            }
+            RuntimeException cause = unwrap(error);
+            if (attempt == primary) {
+                primaryFailed = true;
+                if (hedge == null) {
+                    if (isFinal(cause)) {
+                        result.completeExceptionally(cause);
+                    } else {
+                        log.debug("Request to {} failed, hedging: {}", attempt.replica, cause.getMessage());
+                        sendHedge();
+                    }
+                    return;
+                }
+            } else {
+                hedgeFailed = true;
+            }
+            if (primaryFailed && hedgeFailed) {
+                result.completeExceptionally(cause);
+            }
+        }
+
+        private synchronized void cancelAll() {
+            primary.cancel();
+            if (hedge != null) {
+                hedge.cancel();
+            }
+        }
+    }
+
+    /**
+     * One in-flight request, abortable from any thread: cancelling its future aborts the HTTP request,
+     * closing the connection, even if the request has already been sent.
+     */
+    private final class Attempt<T> {
+        private final String replica;
+        private final AtomicReference<Cancellable> request = new AtomicReference<>();
+        private final CompletableFuture<T> future;
+        private volatile boolean cancelled;
+
+        Attempt(String replica, Function<String, T> call) {
+            this.replica = replica;
+            this.future = CompletableFuture.supplyAsync(
+                    () -> {
+                        CancellableRequestFactory.register(this::registered);
+                        long start = System.nanoTime();
+                        try {
+                            T result = call.apply(replica);
+                            latencies.record(System.nanoTime() - start);
+                            return result;
+                        } finally {
+                            CancellableRequestFactory.unregister();
+                        }
+                    },
+                    executor);
+            future.whenComplete((value, error) -> {
+                if (error instanceof CancellationException) {
+                    cancel();
+                }
+            });
+        }
+
+        private void registered(Cancellable cancellable) {
+            request.set(cancellable);
+            if (cancelled) {
+                cancellable.cancel();
+            }
+        }
+
+        void cancel() {
+            cancelled = true;
+            future.cancel(true);
+            Cancellable inFlight = request.get();
+            if (inFlight != null) {
+                inFlight.cancel();
+            }
+        }
+    }
+}
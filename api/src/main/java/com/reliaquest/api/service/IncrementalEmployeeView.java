@@ -0,0 +1,135 @@
+package com.reliaquest.api.service;
+
+import com.reliaquest.api.model.Employee;
+import com.reliaquest.api.model.EmployeeCreatedEvent;
+import com.reliaquest.api.model.EmployeeDeletedEvent;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+import org.springframework.context.event.EventListener;
+
+/**
+ * Base for views derived from the employee dataset, seeded from one upstream fetch on first use
+ * and then patched from create/delete events.
+ * The seed is fetched without holding the view's lock, so events are never blocked behind it; events arriving
+ * meanwhile are buffered and replayed over the seed. Changes are reconciled by employee id: a create of an id
+ * already in the view and a delete of an id not in it are ignored, so each employee is counted exactly once.
+ */
+abstract class IncrementalEmployeeView {
+    private final EmployeeService employeeService;
+
+    private final Map<String, Employee> employeesById = new HashMap<>();
+    private List<Change> buffered;
+    private boolean initialized;
+
+    IncrementalEmployeeView(EmployeeService employeeService) {
+        this.employeeService = employeeService;
+    }
+
+    /**
+     * Adds an employee that is not yet in the view.
+     */
+    protected abstract void add(Employee employee);
+
+    /**
+     * Removes an employee previously passed to {@link #add}.
+     */
+    protected abstract void remove(Employee employee);
+
+    /**
+     * Called once the seed has been applied.
+     */
+    protected abstract void seeded(int employees);
+
+    /**
+     * Runs a query against the seeded view under its lock.
+     */
+    protected <T> T read(Supplier<T> query) {
+        ensureInitialized();
+        synchronized (this) {
+            return query.get();
+        }
+    }
+
+    /**
+     * @return the employee as it was added to the view, or null; call under the view's lock
+     */
+    protected Employee indexed(String id) {
+        return employeesById.get(id);
+    }
+
+    @EventListener
+    public synchronized void onEmployeeCreated(EmployeeCreatedEvent event) {
+        apply(new Change(event.employee(), true));
+    }
+
+    @EventListener
+    public synchronized void onEmployeeDeleted(EmployeeDeletedEvent event) {
+        apply(new Change(event.employee(), false));
+    }
+
+    private void apply(Change change) {
+        if (initialized) {
+            reconcile(change);
+        } else if (buffered != null) {
+            buffered.add(change);
+        }
+    }
+
+    private void reconcile(Change change) {
+        String id = change.employee().getId();
+        if (id == null) {
+            return;
+        }
+        if (change.created()) {
+            if (!employeesById.containsKey(id)) {
+                employeesById.put(id, change.employee());
+                add(change.employee());
+            }
+        } else {
+            Employee removed = employeesById.remove(id);
+            if (removed != null) {
+                remove(removed);
+            }
+        }
+    }
+
+    private void ensureInitialized() {
+        synchronized (this) {
+            while (!initialized && buffered != null) {
+                try {
+                    wait();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new IllegalStateException("Interrupted waiting for the view to be seeded", e);
+                }
+            }
+            if (initialized) {
+                return;
+            }
+            buffered = new ArrayList<>();
+        }
+        List<Employee> employees;
+        try {
+            employees = employeeService.getAllEmployees();
+        } catch (RuntimeException e) {
+            synchronized (this) {
+                buffered = null;
+                notifyAll();
+            }
+            throw e;
+        }
+        synchronized (this) {
+            employees.forEach(employee -> reconcile(new Change(employee, true)));
+            buffered.forEach(this::reconcile);
+            buffered = null;
+            initialized = true;
+            notifyAll();
+            seeded(employees.size());
+        }
+    }
+
+    private record Change(Employee employee, boolean created) {}
+}
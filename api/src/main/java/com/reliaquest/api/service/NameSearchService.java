@@ -0,0 +1,101 @@
+package com.reliaquest.api.service;
+
+import com.reliaquest.api.model.Employee;
+import com.reliaquest.api.util.BkTree;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.regex.Pattern;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+/**
+ * Typo-tolerant name search over first and last name tokens.
+ * Tokens live in a BK-tree keyed by Levenshtein distance and map to employee ids;
+ * the index is built on first use and maintained from create/delete events.
+ */
+@Service
+@Slf4j
+public class NameSearchService extends IncrementalEmployeeView {
+    private static final Pattern TOKEN_SEPARATOR = Pattern.compile("[^\\p{L}\\p{N}]+");
+
+    private final BkTree<String> tokens = new BkTree<>();
+
+    public NameSearchService(EmployeeService employeeService) {
+        super(employeeService);
+    }
+
+    /**
+     * Finds employees whose name tokens each lie within {@code maxDistance} edits of a query token.
+     * Every query token must match some name token; results are ranked by total distance, then name.
+     *
+     * @param query one or more name fragments
+     * @param maxDistance maximum edits per token
+     * @param limit maximum number of results
+     * @return matching employees, closest first
+     */
+    public List<Employee> fuzzySearch(String query, int maxDistance, int limit) {
+        return read(() -> search(query, maxDistance, limit));
+    }
+
+    private List<Employee> search(String query, int maxDistance, int limit) {
+        String[] queryTokens = tokenize(query);
+        if (queryTokens.length == 0) {
+            return List.of();
+        }
+        Map<String, Integer> scores = null;
+        for (String queryToken : queryTokens) {
+            Map<String, Integer> best = new HashMap<>();
+            for (BkTree.Match<String> match : tokens.search(queryToken, maxDistance)) {
+                for (String id : match.values()) {
+                    best.merge(id, match.distance(), Math::min);
+                }
+            }
+            if (scores == null) {
+                scores = best;
+            } else {
+                scores.keySet().retainAll(best.keySet());
+                scores.replaceAll((id, score) -> score + best.get(id));
+            }
+        }
+        Map<String, Integer> ranked = scores;
+        return ranked.keySet().stream()
+                .map(this::indexed)
+                .sorted(Comparator.<Employee>comparingInt(employee -> ranked.get(employee.getId()))
+                        .thenComparing(Employee::getName, Comparator.nullsLast(Comparator.naturalOrder())))
+                .limit(limit)
+                .toList();
+    }
+
+    static String[] tokenize(String name) {
+        if (name == null) {
+            return new String[0];
+        }
+        return Arrays.stream(TOKEN_SEPARATOR.split(name.toLowerCase(Locale.ROOT)))
+                .filter(token -> !token.isEmpty())
+                .distinct()
+                .toArray(String[]::new);
+    }
+
+    @Override
+    protected void add(Employee employee) {
+        for (String token : tokenize(employee.getName())) {
+            tokens.add(token, employee.getId());
+        }
+    }
+
+    @Override
+    protected void remove(Employee employee) {
+        for (String token : tokenize(employee.getName())) {
+            tokens.remove(token, employee.getId());
+        }
+    }
+
+    @Override
+    protected void seeded(int employees) {
+        log.info("Indexed {} name tokens from {} employees", tokens.size(), employees);
+    }
+}
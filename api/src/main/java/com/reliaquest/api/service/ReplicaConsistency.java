@@ -0,0 +1,116 @@
+package com.reliaquest.api.service;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Tracks, per shard, whether every replica has been shown to serve the same dataset as the first one.
+ * Replicas are compared by their dataset ETag, which the server derives from the content. Until a shard is verified,
+ * and again after every write to it (writes only reach the first replica), its reads go to the first replica alone.
+ * Verification runs in the background, at most once per interval per shard.
+ */
+@Slf4j
+class ReplicaConsistency {
+    private final Executor executor;
+    private final Function<String, String> etagOf;
+    private final Map<List<String>, Shard> shards = new ConcurrentHashMap<>();
+    private volatile long intervalNanos;
+
+    /**
+     * @param executor runs verifications
+     * @param etagOf dataset ETag served by a replica base URL, or null if it sends none
+     * @param interval minimum time between verifications of one shard
+     */
+    ReplicaConsistency(Executor executor, Function<String, String> etagOf, Duration interval) {
+        this.executor = executor;
+        this.etagOf = etagOf;
+        configure(interval);
+    }
+
+    void configure(Duration interval) {
+        this.intervalNanos = interval.toNanos();
+    }
+
+    /**
+     * @return all replicas if they were verified to serve the same data, otherwise the first replica only
+     */
+    List<String> readReplicas(List<String> replicas) {
+        if (replicas.size() == 1) {
+            return replicas;
+        }
+        Shard shard = shards.computeIfAbsent(replicas, Shard::new);
+        if (shard.isDue(intervalNanos) && shard.verifying.compareAndSet(false, true)) {
+            try {
+                executor.execute(() -> verify(shard));
+            } catch (RejectedExecutionException e) {
+                shard.verifying.set(false);
+            }
+        }
+        return shard.consistent ? replicas : replicas.subList(0, 1);
+    }
+
+    /**
+     * Marks the shard unverified after a write, which reaches its first replica only.
+     */
+    void invalidate(List<String> replicas) {
+        Shard shard = replicas.size() == 1 ? null : shards.get(replicas);
+        if (shard != null) {
+            synchronized (shard) {
+                shard.writes++;
+                shard.consistent = false;
+            }
+        }
+    }
+
+    private void verify(Shard shard) {
+        long writes;
+        synchronized (shard) {
+            writes = shard.writes;
+        }
+        try {
+            String expected = etagOf.apply(shard.replicas.get(0));
+            boolean same = expected != null
+                    && shard.replicas.stream().skip(1).allMatch(replica -> expected.equals(etagOf.apply(replica)));
+            synchronized (shard) {
+                boolean consistent = same && shard.writes == writes;
+                if (consistent != shard.consistent) {
+                    log.info("Replicas {} {} the same data", shard.replicas, consistent ? "serve" : "no longer serve");
+                }
+                shard.consistent = consistent;
+            }
+        } catch (RuntimeException e) {
+            log.debug("Could not verify replicas {}: {}", shard.replicas, e.getMessage());
+            synchronized (shard) {
+                shard.consistent = false;
+            }
+        } finally {
+            shard.checkedAt = System.nanoTime();
+            shard.checked = true;
+            shard.verifying.set(false);
+        }
+    }
+
+    private static final class Shard {
+        private final List<String> replicas;
+        private final AtomicBoolean verifying = new AtomicBoolean();
+        private volatile boolean consistent;
+        private volatile boolean checked;
+        private volatile long checkedAt;
+        private long writes;
+
+        Shard(List<String> replicas) {
+            this.replicas = replicas;
+        }
+
+        boolean isDue(long intervalNanos) {
+            return !checked || System.nanoTime() - checkedAt >= intervalNanos;
+        }
+    }
+}
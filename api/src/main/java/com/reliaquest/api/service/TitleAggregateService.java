@@ -0,0 +1,50 @@
+package com.reliaquest.api.service;
+
+import com.reliaquest.api.model.Employee;
+import com.reliaquest.api.model.TitleAggregate;
+import com.reliaquest.api.util.TitleAggregateIndex;
+import java.util.List;
+import java.util.Optional;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+/**
+ * Maintains the group-by-title aggregate view.
+ * Built from one upstream fetch on first use, then patched from create/delete events.
+ */
+@Service
+@Slf4j
+public class TitleAggregateService extends IncrementalEmployeeView {
+    private final TitleAggregateIndex index = new TitleAggregateIndex();
+
+    public TitleAggregateService(EmployeeService employeeService) {
+        super(employeeService);
+    }
+
+    public List<TitleAggregate> getAggregates() {
+        return read(index::getAll);
+    }
+
+    public Optional<TitleAggregate> getAggregate(String title) {
+        return read(() -> index.get(title));
+    }
+
+    public List<TitleAggregate> getTopByAverageSalary(int n) {
+        return read(() -> index.getTopByAverageSalary(n));
+    }
+
+    @Override
+    protected void add(Employee employee) {
+        index.add(employee);
+    }
+
+    @Override
+    protected void remove(Employee employee) {
+        index.remove(employee);
+    }
+
+    @Override
+    protected void seeded(int employees) {
+        log.info("Built title aggregates for {} titles from {} employees", index.size(), employees);
+    }
+}
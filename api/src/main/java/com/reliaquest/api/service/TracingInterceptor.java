@@ -0,0 +1,89 @@
+package com.reliaquest.api.service;
+
+import com.reliaquest.api.util.Tracing;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpRequest;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.ClientHttpResponse;
+
+/**
+ * Propagates the trace id to the upstream and records the hop for sampled requests:
+ * the round trip, the server's own time from its Server-Timing header, and decoding of the response body.
+ * Unsampled requests pass straight through.
+ */
+class TracingInterceptor implements ClientHttpRequestInterceptor {
+    private static final Pattern APP_DURATION = Pattern.compile("(?:^|,)\\s*app;dur=([0-9.]+)");
+
+    @Override
+    public ClientHttpResponse intercept(HttpRequest request, byte[] body, ClientHttpRequestExecution execution)
+            throws IOException {
+        String traceId = Tracing.currentTraceId();
+        if (traceId == null) {
+            return execution.execute(request, body);
+        }
+        request.getHeaders().set(Tracing.TRACE_HEADER, traceId);
+        long start = System.nanoTime();
+        ClientHttpResponse response = execution.execute(request, body);
+        long elapsed = System.nanoTime() - start;
+        Tracing.record(
+                "upstream.http " + request.getMethod() + " " + request.getURI().getPath(), start, elapsed);
+        String serverTiming = response.getHeaders().getFirst("Server-Timing");
+        if (serverTiming != null) {
+            Matcher matcher = APP_DURATION.matcher(serverTiming);
+            if (matcher.find()) {
+                long serverNanos = (long) (Double.parseDouble(matcher.group(1)) * 1_000_000);
+                Tracing.record("upstream.server", start, Math.min(serverNanos, elapsed));
+            }
+        }
+        return new ParseTimedResponse(response);
+    }
+
+    /**
+     * Records the time from the first read of the body until the converter closes the response.
+     */
+    private static final class ParseTimedResponse implements ClientHttpResponse {
+        private final ClientHttpResponse delegate;
+        private long bodyStart;
+
+        ParseTimedResponse(ClientHttpResponse delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public HttpStatusCode getStatusCode() throws IOException {
+            return delegate.getStatusCode();
+        }
+
+        @Override
+        public String getStatusText() throws IOException {
+            return delegate.getStatusText();
+        }
+
+        @Override
+        public HttpHeaders getHeaders() {
+            return delegate.getHeaders();
+        }
+
+        @Override
+        public InputStream getBody() throws IOException {
+            if (bodyStart == 0) {
+                bodyStart = System.nanoTime();
+            }
+            return delegate.getBody();
+        }
+
+        @Override
+        public void close() {
+            delegate.close();
+            if (bodyStart != 0) {
+                Tracing.record("upstream.parse", bodyStart, System.nanoTime() - bodyStart);
+            }
+        }
+    }
+}
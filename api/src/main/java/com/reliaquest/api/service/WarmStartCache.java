@@ -0,0 +1,208 @@
+package com.reliaquest.api.service;
+
+import com.reliaquest.api.model.Employee;
+import com.reliaquest.api.model.EmployeeCreatedEvent;
+import com.reliaquest.api.model.EmployeeDeletedEvent;
+import com.reliaquest.api.model.EmployeeSnapshot;
+import com.reliaquest.api.util.EmployeeSnapshotCodec;
+import com.reliaquest.api.util.MemoryFootprint;
+import com.reliaquest.api.util.ShardPartitioner;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.actuate.info.Info;
+import org.springframework.boot.actuate.info.InfoContributor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+/**
+ * Local copy of the employee dataset that survives restarts.
+ * At boot the last snapshot file is memory-mapped and served by {@link EmployeeService#getAllEmployees()} right away,
+ * so derived indexes are rebuilt from it without upstream calls. A background task revalidates the copy against
+ * the shards by ETag and rewrites the file when anything changed; local creates and deletes are applied immediately.
+ * The estimated heap footprint of the copy is published under {@code employeeSnapshot} at /actuator/info.
+ */
+@Service
+@Slf4j
+@ConditionalOnProperty(name = "employee.snapshot.enabled", havingValue = "true")
+public class WarmStartCache implements InfoContributor {
+    private final EmployeeService employeeService;
+    private final Path path;
+    private final Duration refreshInterval;
+
+    private final ScheduledExecutorService refresher = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "employee-snapshot-refresh");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private volatile EmployeeSnapshot snapshot;
+    private volatile List<Employee> employees;
+    private boolean dirty;
+
+    public WarmStartCache(
+            EmployeeService employeeService,
+            @Value("${employee.snapshot.path:data/employee-snapshot.bin}") Path path,
+            @Value("${employee.snapshot.refresh-interval:60s}") Duration refreshInterval) {
+        this.employeeService = employeeService;
+        this.path = path;
+        this.refreshInterval = refreshInterval;
+    }
+
+    @PostConstruct
+    public void start() {
+        if (Files.exists(path)) {
+            try {
+                publish(EmployeeSnapshotCodec.read(path));
+                log.info("Loaded {} employee(s) from snapshot {}", employees.size(), path);
+            } catch (IOException e) {
+                log.warn("Ignoring unreadable snapshot {}: {}", path, e.getMessage());
+            }
+        }
+        employeeService.setCachedDataset(() -> employees);
+        refresher.scheduleWithFixedDelay(this::refresh, 0, refreshInterval.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void stop() {
+        refresher.shutdownNow();
+        persistIfDirty();
+    }
+
+    /**
+     * Revalidates the copy with the upstream. Failures keep serving the current copy until the next attempt.
+     */
+    void refresh() {
+        EmployeeSnapshot known = snapshot;
+        EmployeeSnapshot current;
+        try {
+            current = employeeService.revalidate(known);
+        } catch (RuntimeException e) {
+            log.warn("Snapshot refresh failed, serving the local copy: {}", e.getMessage());
+            return;
+        }
+        synchronized (this) {
+            EmployeeSnapshot merged = snapshot == known ? current : keepLocalChanges(known, snapshot, current);
+            if (merged == null) {
+                return;
+            }
+            if (snapshot == null || !sameShards(snapshot, merged)) {
+                publish(merged);
+                dirty = true;
+                log.info("Refreshed snapshot: {} employee(s)", employees.size());
+            }
+        }
+        persistIfDirty();
+    }
+
+    @Override
+    public void contribute(Info.Builder builder) {
+        List<Employee> current = employees;
+        if (current != null) {
+            MemoryFootprint.Report footprint = MemoryFootprint.of(current);
+            builder.withDetail(
+                    "employeeSnapshot",
+                    Map.of(
+                            "employees", footprint.employees(),
+                            "distinctStrings", footprint.distinctStrings(),
+                            "objectBytes", footprint.objectBytes(),
+                            "stringBytes", footprint.stringBytes(),
+                            "totalBytes", footprint.totalBytes()));
+        }
+    }
+
+    @EventListener
+    public synchronized void onEmployeeCreated(EmployeeCreatedEvent event) {
+        Employee created = event.employee();
+        update(created.getId(), shard -> shard.add(created));
+    }
+
+    @EventListener
+    public synchronized void onEmployeeDeleted(EmployeeDeletedEvent event) {
+        String id = event.employee().getId();
+        update(id, shard -> shard.removeIf(employee -> id.equals(employee.getId())));
+    }
+
+    private void update(String id, Consumer<List<Employee>> change) {
+        if (snapshot == null || id == null) {
+            return;
+        }
+        List<EmployeeSnapshot.Shard> shards = new ArrayList<>(snapshot.shards());
+        int index = ShardPartitioner.shardOf(id, shards.size());
+        List<Employee> rows = new ArrayList<>(shards.get(index).employees());
+        change.accept(rows);
+        shards.set(index, new EmployeeSnapshot.Shard(null, rows));
+        publish(new EmployeeSnapshot(shards));
+        dirty = true;
+    }
+
+    private synchronized void publish(EmployeeSnapshot next) {
+        snapshot = next;
+        employees = next.employees();
+    }
+
+    private void persistIfDirty() {
+        EmployeeSnapshot toWrite;
+        synchronized (this) {
+            if (!dirty || snapshot == null) {
+                return;
+            }
+            toWrite = snapshot;
+            dirty = false;
+        }
+        try {
+            EmployeeSnapshotCodec.write(toWrite, path);
+        } catch (IOException e) {
+            log.warn("Could not write snapshot {}: {}", path, e.getMessage());
+            synchronized (this) {
+                dirty = true;
+            }
+        }
+    }
+
+    /**
+     * Merges a refresh with local creates and deletes applied while it ran: shards changed locally since
+     * {@code known} are kept (they have no ETag and are refetched next time), all others are taken from the refresh.
+     * @return the merged snapshot, or null if the shard layout changed meanwhile
+     */
+    private static EmployeeSnapshot keepLocalChanges(
+            EmployeeSnapshot known, EmployeeSnapshot local, EmployeeSnapshot refreshed) {
+        if (known == null
+                || known.shards().size() != local.shards().size()
+                || local.shards().size() != refreshed.shards().size()) {
+            return null;
+        }
+        List<EmployeeSnapshot.Shard> shards = new ArrayList<>(refreshed.shards());
+        for (int i = 0; i < shards.size(); i++) {
+            if (local.shards().get(i) != known.shards().get(i)) {
+                shards.set(i, local.shards().get(i));
+            }
+        }
+        return new EmployeeSnapshot(shards);
+    }
+
+    private static boolean sameShards(EmployeeSnapshot known, EmployeeSnapshot current) {
+        if (known.shards().size() != current.shards().size()) {
+            return false;
+        }
+        for (int i = 0; i < known.shards().size(); i++) {
+            if (known.shards().get(i) != current.shards().get(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
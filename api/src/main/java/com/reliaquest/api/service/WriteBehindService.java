@@ -0,0 +1,353 @@
+package com.reliaquest.api.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reliaquest.api.model.CreateEmployeeInput;
+import com.reliaquest.api.model.Employee;
+import com.reliaquest.api.model.WriteOperation;
+import com.reliaquest.api.model.WriteStatus;
+import com.reliaquest.api.util.WriteJournal;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.UnaryOperator;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.RestClientException;
+
+/**
+ * Write-behind queue for employee creation and deletion.
+ * Mutations are journaled to disk and acknowledged with a tracking id; a single dispatcher thread applies them
+ * upstream in order, in batches, retrying with exponential backoff while the upstream throttles.
+ * A delete of a create that has not been dispatched yet cancels both, and repeated deletes of one employee collapse.
+ * Creates carry their tracking id as idempotency key, so a retry or replay after a lost response cannot duplicate
+ * them, and the journal keeps the id each create produced, so a replayed delete of a created employee finds it.
+ */
+@Service
+@Slf4j
+@ConditionalOnProperty(name = "employee.write-behind.enabled", havingValue = "true")
+public class WriteBehindService {
+    private static final long MIN_BACKOFF_MILLIS = 100;
+    private static final long MAX_BACKOFF_MILLIS = 10_000;
+    private static final int MAX_ATTEMPTS = 5;
+
+    private final EmployeeService employeeService;
+    private final WriteJournal journal;
+    private final int capacity;
+    private final int batchSize;
+
+    private final Deque<WriteOperation> queue = new ArrayDeque<>();
+    private final Set<String> inFlight = new HashSet<>();
+    private final Map<String, String> queuedDeletes = new HashMap<>();
+    private final Map<String, WriteStatus> statuses;
+    private final Map<String, Integer> attempts = new HashMap<>();
+
+    private Thread dispatcher;
+    private volatile boolean running = true;
+
+    public WriteBehindService(
+            EmployeeService employeeService,
+            ObjectMapper objectMapper,
+            @Value("${employee.write-behind.journal:data/write-behind.journal}") Path journalPath,
+            @Value("${employee.write-behind.capacity:10000}") int capacity,
+            @Value("${employee.write-behind.batch-size:50}") int batchSize)
+            throws IOException {
+        this.employeeService = employeeService;
+        this.journal = new WriteJournal(journalPath, objectMapper);
+        this.capacity = capacity;
+        this.batchSize = batchSize;
+        // Keep the status of finished operations for polling, up to as many again as can be queued.
+        this.statuses = new LinkedHashMap<>() {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, WriteStatus> eldest) {
+                return size() > 2 * capacity && eldest.getValue().isDone();
+            }
+        };
+    }
+
+    @PostConstruct
+    public void start() throws IOException {
+        List<WriteOperation> recovered = journal.replay();
+        synchronized (this) {
+            recovered.forEach(this::track);
+        }
+        if (!recovered.isEmpty()) {
+            log.info("Recovered {} queued write(s) from the journal", recovered.size());
+        }
+        dispatcher = new Thread(this::dispatchLoop, "employee-write-behind");
+        dispatcher.setDaemon(true);
+        dispatcher.start();
+    }
+
+    @PreDestroy
+    public void stop() throws IOException, InterruptedException {
+        running = false;
+        dispatcher.interrupt();
+        dispatcher.join(MAX_BACKOFF_MILLIS);
+        journal.close();
+    }
+
+    /**
+     * @return status of the accepted create, or empty if the queue is full
+     */
+    public synchronized Optional<WriteStatus> enqueueCreate(CreateEmployeeInput input) {
+        if (queue.size() >= capacity) {
+            return Optional.empty();
+        }
+        return Optional.of(accept(WriteOperation.create(UUID.randomUUID().toString(), input)));
+    }
+
+    /**
+     * @param target id of an existing employee, or tracking id of a queued create
+     * @return status of the accepted delete, or empty if the queue is full
+     */
+    public synchronized Optional<WriteStatus> enqueueDelete(String target) {
+        String trackingId = UUID.randomUUID().toString();
+        WriteStatus targetStatus = statuses.get(target);
+        if (targetStatus != null && targetStatus.type() == WriteOperation.Type.CREATE) {
+            WriteOperation queuedCreate = queue.stream()
+                    .filter(operation -> operation.trackingId().equals(target) && !inFlight.contains(target))
+                    .findFirst()
+                    .orElse(null);
+            if (queuedCreate != null) {
+                queue.remove(queuedCreate);
+                completeInJournal(List.of(target));
+                statuses.put(target, targetStatus.coalesced());
+                WriteStatus delete = WriteStatus.pending(WriteOperation.deleteCreated(trackingId, target))
+                        .completed(null);
+                statuses.put(trackingId, delete);
+                log.info("Coalesced create {} with its delete", target);
+                return Optional.of(delete);
+            }
+            if (targetStatus.state() == WriteStatus.State.COMPLETED && targetStatus.employee() != null) {
+                return enqueueDeleteOf(targetStatus.employee().getId(), trackingId);
+            }
+            if (queue.size() >= capacity) {
+                return Optional.empty();
+            }
+            return Optional.of(accept(WriteOperation.deleteCreated(trackingId, target)));
+        }
+        return enqueueDeleteOf(target, trackingId);
+    }
+
+    private Optional<WriteStatus> enqueueDeleteOf(String employeeId, String trackingId) {
+        String queued = queuedDeletes.get(employeeId);
+        if (queued != null) {
+            return Optional.of(statuses.get(queued));
+        }
+        if (queue.size() >= capacity) {
+            return Optional.empty();
+        }
+        return Optional.of(accept(WriteOperation.delete(trackingId, employeeId)));
+    }
+
+    public synchronized Optional<WriteStatus> getStatus(String trackingId) {
+        return Optional.ofNullable(statuses.get(trackingId));
+    }
+
+    private WriteStatus accept(WriteOperation operation) {
+        try {
+            journal.append(operation);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not journal write", e);
+        }
+        WriteStatus status = track(operation);
+        notifyAll();
+        return status;
+    }
+
+    private WriteStatus track(WriteOperation operation) {
+        queue.addLast(operation);
+        if (operation.employeeId() != null) {
+            queuedDeletes.put(operation.employeeId(), operation.trackingId());
+        }
+        WriteStatus status = WriteStatus.pending(operation);
+        statuses.put(operation.trackingId(), status);
+        return status;
+    }
+
+    /**
+     * Runs until stopped. A failure outside a single operation, such as a journal write, is logged and backed off
+     * like a throttled batch, so it cannot end the loop.
+     */
+    private void dispatchLoop() {
+        long backoff = MIN_BACKOFF_MILLIS;
+        while (running) {
+            boolean dispatched;
+            try {
+                dispatched = dispatchBatch();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (RuntimeException e) {
+                log.error("Write-behind dispatch failed", e);
+                dispatched = false;
+            }
+            if (dispatched) {
+                backoff = MIN_BACKOFF_MILLIS;
+                continue;
+            }
+            log.debug("Upstream unavailable, backing off {} ms", backoff);
+            try {
+                Thread.sleep(backoff);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            backoff = Math.min(backoff * 2, MAX_BACKOFF_MILLIS);
+        }
+    }
+
+    /**
+     * @return false if part of the batch was left queued for a retry
+     */
+    private boolean dispatchBatch() throws InterruptedException {
+        List<WriteOperation> batch = nextBatch();
+        List<String> done = new ArrayList<>();
+        for (WriteOperation operation : batch) {
+            if (!dispatch(operation)) {
+                break;
+            }
+            done.add(operation.trackingId());
+        }
+        finish(batch, done);
+        return done.size() == batch.size();
+    }
+
+    private synchronized List<WriteOperation> nextBatch() throws InterruptedException {
+        while (queue.isEmpty()) {
+            wait();
+        }
+        List<WriteOperation> batch = new ArrayList<>(Math.min(batchSize, queue.size()));
+        for (WriteOperation operation : queue) {
+            if (batch.size() == batchSize) {
+                break;
+            }
+            batch.add(operation);
+            inFlight.add(operation.trackingId());
+        }
+        return batch;
+    }
+
+    /**
+     * Records the completed prefix of the batch with one journal write; the rest stays queued for the next attempt.
+     */
+    private synchronized void finish(List<WriteOperation> batch, List<String> done) {
+        batch.forEach(operation -> inFlight.remove(operation.trackingId()));
+        Map<String, String> completions = new LinkedHashMap<>();
+        for (int i = 0; i < done.size(); i++) {
+            WriteOperation operation = queue.pollFirst();
+            if (operation.employeeId() != null) {
+                queuedDeletes.remove(operation.employeeId());
+            }
+            WriteStatus status = statuses.get(operation.trackingId());
+            completions.put(
+                    operation.trackingId(),
+                    operation.type() == WriteOperation.Type.CREATE && status != null && status.employee() != null
+                            ? status.employee().getId()
+                            : null);
+        }
+        try {
+            journal.complete(completions);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not journal completion", e);
+        }
+        if (queue.isEmpty()) {
+            try {
+                journal.compact(List.of());
+            } catch (IOException e) {
+                log.warn("Could not compact write-behind journal", e);
+            }
+        }
+    }
+
+    /**
+     * Applies one operation upstream and records its outcome; unexpected errors fail the operation.
+     * @return false if it should be retried later, because the upstream throttled or failed transiently
+     */
+    private boolean dispatch(WriteOperation operation) {
+        try {
+            Employee result =
+                    switch (operation.type()) {
+                        case CREATE -> employeeService.createEmployee(operation.input(), operation.trackingId());
+                        case DELETE -> delete(operation);
+                    };
+            updateStatus(operation.trackingId(), status -> status.completed(result));
+            clearAttempts(operation);
+            return true;
+        } catch (HttpClientErrorException e) {
+            if (e.getStatusCode().value() == HttpStatus.TOO_MANY_REQUESTS.value()) {
+                return false;
+            }
+            updateStatus(operation.trackingId(), status -> status.failed(e.getStatusText()));
+            clearAttempts(operation);
+            return true;
+        } catch (RestClientException e) {
+            return retryOrFail(operation, e);
+        } catch (RuntimeException e) {
+            // Not an upstream failure, so retrying would not help.
+            log.error("Write {} failed", operation.trackingId(), e);
+            updateStatus(operation.trackingId(), status -> status.failed(e.toString()));
+            clearAttempts(operation);
+            return true;
+        }
+    }
+
+    private Employee delete(WriteOperation operation) {
+        String employeeId = operation.employeeId();
+        if (employeeId == null) {
+            WriteStatus created = getStatus(operation.createTrackingId()).orElse(null);
+            if (created == null || created.employee() == null) {
+                throw HttpClientErrorException.create(
+                        HttpStatus.NOT_FOUND, "Employee was not created", null, null, null);
+            }
+            employeeId = created.employee().getId();
+        }
+        Employee employee = employeeService.getEmployeeById(employeeId);
+        employeeService.deleteEmployee(employee);
+        return employee;
+    }
+
+    private synchronized boolean retryOrFail(WriteOperation operation, RestClientException e) {
+        int attempt = attempts.merge(operation.trackingId(), 1, Integer::sum);
+        if (attempt < MAX_ATTEMPTS) {
+            log.warn("Write {} failed (attempt {}), will retry: {}", operation.trackingId(), attempt, e.getMessage());
+            return false;
+        }
+        attempts.remove(operation.trackingId());
+        updateStatus(operation.trackingId(), status -> status.failed(e.getMessage()));
+        return true;
+    }
+
+    private synchronized void clearAttempts(WriteOperation operation) {
+        attempts.remove(operation.trackingId());
+    }
+
+    private synchronized void updateStatus(String trackingId, UnaryOperator<WriteStatus> update) {
+        statuses.computeIfPresent(trackingId, (id, status) -> update.apply(status));
+    }
+
+    private void completeInJournal(List<String> trackingIds) {
+        try {
+            journal.complete(trackingIds);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not journal completion", e);
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package com.reliaquest.api.util;
+
+import java.util.Locale;
+
+/**
+ * Content-coding negotiation from an Accept-Encoding header (RFC 9110, section 12.5.3).
+ * A coding is acceptable if it is listed with a quality above zero, or if it is not listed and {@code *} is;
+ * {@code gzip;q=0} therefore refuses gzip.
+ */
+public final class AcceptEncoding {
+
+    private AcceptEncoding() {
+        // Utility class - prevent instantiation
+    }
+
+    /**
+     * @param acceptEncoding Accept-Encoding header value, or null
+     * @param coding content coding, e.g. {@code gzip}
+     * @return whether the client accepts the coding
+     */
+    public static boolean accepts(String acceptEncoding, String coding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        double wildcard = 0;
+        for (String element : acceptEncoding.split(",")) {
+            String[] parts = element.split(";");
+            String name = parts[0].trim().toLowerCase(Locale.ROOT);
+            if (name.equals(coding)) {
+                return quality(parts) > 0;
+            }
+            if (name.equals("*")) {
+                wildcard = quality(parts);
+            }
+        }
+        return wildcard > 0;
+    }
+
+    /**
+     * @return the q parameter of a coding, 1 if absent, or 0 if malformed
+     */
+    private static double quality(String[] parts) {
+        for (int i = 1; i < parts.length; i++) {
+            String parameter = parts[i].trim();
+            if (parameter.regionMatches(true, 0, "q=", 0, 2)) {
+                try {
+                    return Double.parseDouble(parameter.substring(2).trim());
+                } catch (NumberFormatException e) {
+                    return 0;
+                }
+            }
+        }
+        return 1;
+    }
+}
@@ -0,0 +1,196 @@
+package com.reliaquest.api.util;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Concurrency limit that adapts to measured latency (gradient algorithm).
+ * A long-term average latency approximates the no-load baseline; while recent latency stays near it the limit grows
+ * by roughly sqrt(limit) per sample, and when recent latency rises (requests are queueing upstream) the limit shrinks
+ * in proportion, down to half per step. Failures cut the limit multiplicatively.
+ * Callers over the limit wait in a bounded queue until a deadline and are then rejected.
+ * Only calls made while holding a slot should be sampled, so background work does not move the baseline.
+ */
+public class AdaptiveConcurrencyLimiter {
+    private static final double LONG_WINDOW = 600;
+    private static final double SHORT_WINDOW = 10;
+    private static final double TOLERANCE = 1.5;
+    private static final double SMOOTHING = 0.2;
+    private static final double BACKOFF = 0.9;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition released = lock.newCondition();
+    private final int minLimit;
+    private final int maxLimit;
+    private final int maxQueue;
+    private final ThreadLocal<Integer> held = ThreadLocal.withInitial(() -> 0);
+
+    private double limit;
+    private double longRtt;
+    private double shortRtt;
+    private int inFlight;
+    private int waiting;
+    private long rejected;
+
+    /**
+     * @param initialLimit starting concurrency
+     * @param minLimit lower bound of the limit
+     * @param maxLimit upper bound of the limit
+     * @param maxQueue callers allowed to wait for a slot; beyond this they are rejected immediately
+     */
+    public AdaptiveConcurrencyLimiter(int initialLimit, int minLimit, int maxLimit, int maxQueue) {
+        if (minLimit < 1 || minLimit > maxLimit || initialLimit < minLimit || initialLimit > maxLimit) {
+            throw new IllegalArgumentException("Require 1 <= minLimit <= initialLimit <= maxLimit");
+        }
+        this.limit = initialLimit;
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.maxQueue = maxQueue;
+    }
+
+    /**
+     * Takes a slot, waiting up to the timeout for one to free up.
+     * @return false if the queue was full or the deadline passed; the caller must then not call {@link #release()}
+     */
+    public boolean acquire(long timeout, TimeUnit unit) throws InterruptedException {
+        boolean acquired = tryAcquire(timeout, unit);
+        if (acquired) {
+            held.set(held.get() + 1);
+        }
+        return acquired;
+    }
+
+    private boolean tryAcquire(long timeout, TimeUnit unit) throws InterruptedException {
+        long remaining = unit.toNanos(timeout);
+        lock.lock();
+        try {
+            if (inFlight < (int) limit) {
+                inFlight++;
+                return true;
+            }
+            if (waiting >= maxQueue || remaining <= 0) {
+                rejected++;
+                return false;
+            }
+            waiting++;
+            try {
+                while (inFlight >= (int) limit) {
+                    if (remaining <= 0) {
+                        rejected++;
+                        return false;
+                    }
+                    remaining = released.awaitNanos(remaining);
+                }
+                inFlight++;
+                return true;
+            } finally {
+                waiting--;
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Frees a slot; call from the thread that acquired it.
+     */
+    public void release() {
+        int holds = held.get();
+        if (holds <= 1) {
+            held.remove();
+        } else {
+            held.set(holds - 1);
+        }
+        lock.lock();
+        try {
+            inFlight--;
+            released.signal();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Feeds one measured latency of the protected dependency.
+     */
+    public void onSample(long latencyNanos) {
+        lock.lock();
+        try {
+            if (longRtt == 0) {
+                longRtt = latencyNanos;
+                shortRtt = latencyNanos;
+                return;
+            }
+            shortRtt += (latencyNanos - shortRtt) / SHORT_WINDOW;
+            longRtt += (shortRtt - longRtt) / LONG_WINDOW;
+            if (longRtt / shortRtt > 2) {
+                // Latency dropped well below the baseline; let the baseline catch up quickly.
+                longRtt *= 0.95;
+            }
+            if (inFlight < limit / 2) {
+                // Not enough load to judge whether a higher limit would help.
+                return;
+            }
+            double gradient = Math.max(0.5, Math.min(1.0, TOLERANCE * longRtt / shortRtt));
+            double target = limit * gradient + Math.sqrt(limit);
+            update(limit * (1 - SMOOTHING) + target * SMOOTHING);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Records a failed or timed-out call of the protected dependency.
+     */
+    public void onDrop() {
+        lock.lock();
+        try {
+            update(limit * BACKOFF);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void update(double newLimit) {
+        double previous = limit;
+        limit = Math.max(minLimit, Math.min(maxLimit, newLimit));
+        if ((int) limit > (int) previous) {
+            released.signalAll();
+        }
+    }
+
+    /**
+     * @return whether the current thread holds a slot, i.e. is serving an admitted request
+     */
+    public boolean isHeldByCurrentThread() {
+        return held.get() > 0;
+    }
+
+    public int limit() {
+        lock.lock();
+        try {
+            return (int) limit;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public int inFlight() {
+        lock.lock();
+        try {
+            return inFlight;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public long rejected() {
+        lock.lock();
+        try {
+            return rejected;
+        } finally {
+            lock.unlock();
+        }
+    }
+}
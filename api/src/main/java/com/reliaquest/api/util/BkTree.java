@@ -0,0 +1,138 @@
+package com.reliaquest.api.util;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Burkhard-Keller tree over terms under Levenshtein distance, mapping each term to a set of values.
+ * Uses the triangle inequality to visit only children whose edge distance lies in {@code [d - k, d + k]},
+ * so bounded queries touch a small fraction of the dictionary.
+ * Removing the last value of a term leaves the node as a tombstone to keep the tree shape valid. Not thread-safe.
+ *
+ * @param <V> value type stored per term
+ */
+public final class BkTree<V> {
+
+    private Node<V> root;
+    private int terms;
+
+    public void add(String term, V value) {
+        if (root == null) {
+            root = new Node<>(term);
+            root.values.add(value);
+            terms++;
+            return;
+        }
+        Node<V> node = root;
+        while (true) {
+            int distance = Levenshtein.distance(term, node.term, Integer.MAX_VALUE);
+            if (distance == 0) {
+                if (node.values.isEmpty()) {
+                    terms++;
+                }
+                node.values.add(value);
+                return;
+            }
+            Node<V> child = node.child(distance);
+            if (child == null) {
+                Node<V> created = new Node<>(term);
+                created.values.add(value);
+                node.setChild(distance, created);
+                terms++;
+                return;
+            }
+            node = child;
+        }
+    }
+
+    public void remove(String term, V value) {
+        Node<V> node = root;
+        while (node != null) {
+            int distance = Levenshtein.distance(term, node.term, Integer.MAX_VALUE);
+            if (distance == 0) {
+                if (node.values.remove(value) && node.values.isEmpty()) {
+                    terms--;
+                }
+                return;
+            }
+            node = node.child(distance);
+        }
+    }
+
+    /**
+     * Finds every live term within {@code maxDistance} edits of the query.
+     *
+     * @param query term to look up
+     * @param maxDistance maximum Levenshtein distance
+     * @return matches in no particular order
+     */
+    public List<Match<V>> search(String query, int maxDistance) {
+        List<Match<V>> matches = new ArrayList<>();
+        if (root == null) {
+            return matches;
+        }
+        Deque<Node<V>> pending = new ArrayDeque<>();
+        pending.push(root);
+        while (!pending.isEmpty()) {
+            Node<V> node = pending.pop();
+            int cap = maxDistance + node.children.length - 1;
+            int distance = Levenshtein.distance(query, node.term, Math.max(maxDistance, cap));
+            if (distance <= maxDistance && !node.values.isEmpty()) {
+                matches.add(new Match<>(node.term, distance, node.values));
+            }
+            int from = Math.max(1, distance - maxDistance);
+            int to = Math.min(node.children.length - 1, distance + maxDistance);
+            for (int edge = from; edge <= to; edge++) {
+                if (node.children[edge] != null) {
+                    pending.push(node.children[edge]);
+                }
+            }
+        }
+        return matches;
+    }
+
+    /**
+     * @return number of terms that still hold at least one value
+     */
+    public int size() {
+        return terms;
+    }
+
+    /**
+     * A term within the requested distance and the values stored under it.
+     * @param term matched term
+     * @param distance edit distance from the query
+     * @param values live view of the values stored under the term
+     */
+    public record Match<V>(String term, int distance, Set<V> values) {}
+
+    private static final class Node<V> {
+        private static final Node<?>[] NO_CHILDREN = new Node<?>[0];
+
+        private final String term;
+        private final Set<V> values = new HashSet<>(2);
+
+        @SuppressWarnings("unchecked")
+        private Node<V>[] children = (Node<V>[]) NO_CHILDREN;
+
+        Node(String term) {
+            this.term = term;
+        }
+
+        Node<V> child(int distance) {
+            return distance < children.length ? children[distance] : null;
+        }
+
+        void setChild(int distance, Node<V> child) {
+            if (distance >= children.length) {
+                children = Arrays.copyOf(children, distance + 1);
+            }
+            children[distance] = child;
+        }
+    }
+}
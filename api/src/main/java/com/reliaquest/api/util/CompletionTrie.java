@@ -0,0 +1,200 @@
+package com.reliaquest.api.util;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Path-compressed (radix) trie of weighted terms for prefix completion.
+ * Every node caches the top {@code k} completions of its subtree, so a lookup walks the prefix
+ * and returns the cached list: O(prefix length + k) regardless of dictionary size.
+ * Weight changes patch only the caches on the path to the term. Not thread-safe.
+ */
+public final class CompletionTrie {
+
+    private static final Comparator<Completion> BY_WEIGHT =
+            Comparator.comparingLong(Completion::weight).reversed().thenComparing(Completion::term);
+
+    private final int k;
+    private final Node root = new Node("");
+    private int size;
+
+    /**
+     * @param k number of completions cached per node, and the maximum a lookup can return
+     */
+    public CompletionTrie(int k) {
+        this.k = k;
+    }
+
+    /**
+     * Adds {@code delta} to the weight of a term, inserting it if absent and removing it once its weight drops to zero.
+     *
+     * @param term term to adjust
+     * @param delta weight change
+     */
+    public void adjust(String term, long delta) {
+        if (term.isEmpty() || delta == 0) {
+            return;
+        }
+        List<Node> path = new ArrayList<>();
+        Node node = root;
+        int depth = 0;
+        path.add(node);
+        while (depth < term.length()) {
+            int index = node.childIndex(term.charAt(depth));
+            if (index < 0) {
+                if (delta < 0) {
+                    return;
+                }
+                Node leaf = new Node(term.substring(depth));
+                node.insertChild(-index - 1, leaf);
+                node = leaf;
+                depth = term.length();
+            } else {
+                Node child = node.children[index];
+                int common = commonPrefix(child.label, term, depth);
+                if (common < child.label.length()) {
+                    if (delta < 0) {
+                        return;
+                    }
+                    Node split = new Node(child.label.substring(0, common));
+                    child.label = child.label.substring(common);
+                    split.children = new Node[] {child};
+                    split.top = child.top;
+                    node.children[index] = split;
+                    child = split;
+                }
+                node = child;
+                depth += common;
+            }
+            path.add(node);
+        }
+        long previous = node.weight;
+        node.weight = Math.max(0, node.weight + delta);
+        if (previous == 0 && node.weight > 0) {
+            size++;
+        } else if (previous > 0 && node.weight == 0) {
+            size--;
+        }
+        node.term = node.weight > 0 ? term : null;
+        for (int i = path.size() - 1; i >= 0; i--) {
+            Node current = path.get(i);
+            if (i > 0 && current.weight == 0 && current.children.length == 0) {
+                path.get(i - 1).removeChild(current);
+            } else {
+                current.top = merge(current);
+            }
+        }
+    }
+
+    /**
+     * @param prefix prefix to complete
+     * @param limit maximum number of completions, capped at {@code k}
+     * @return completions ordered by descending weight, then term
+     */
+    public List<Completion> complete(String prefix, int limit) {
+        Node node = root;
+        int depth = 0;
+        while (depth < prefix.length()) {
+            int index = node.childIndex(prefix.charAt(depth));
+            if (index < 0) {
+                return List.of();
+            }
+            Node child = node.children[index];
+            int common = commonPrefix(child.label, prefix, depth);
+            if (common < child.label.length() && depth + common < prefix.length()) {
+                return List.of();
+            }
+            node = child;
+            depth += common;
+        }
+        return Arrays.asList(node.top).subList(0, Math.min(limit, node.top.length));
+    }
+
+    /**
+     * @return number of terms with a positive weight
+     */
+    public int size() {
+        return size;
+    }
+
+    private Completion[] merge(Node node) {
+        List<Completion> candidates = new ArrayList<>(k * (node.children.length + 1) + 1);
+        if (node.weight > 0) {
+            candidates.add(new Completion(node.term, node.weight));
+        }
+        for (Node child : node.children) {
+            candidates.addAll(Arrays.asList(child.top));
+        }
+        candidates.sort(BY_WEIGHT);
+        return candidates.subList(0, Math.min(k, candidates.size())).toArray(Completion[]::new);
+    }
+
+    private static int commonPrefix(String label, String term, int offset) {
+        int max = Math.min(label.length(), term.length() - offset);
+        int i = 0;
+        while (i < max && label.charAt(i) == term.charAt(offset + i)) {
+            i++;
+        }
+        return i;
+    }
+
+    /**
+     * A completion and its weight.
+     * @param term completed term
+     * @param weight ranking weight
+     */
+    public record Completion(String term, long weight) {}
+
+    private static final class Node {
+        private static final Node[] NO_CHILDREN = new Node[0];
+        private static final Completion[] NO_COMPLETIONS = new Completion[0];
+
+        private String label;
+        private String term;
+        private long weight;
+        private Node[] children = NO_CHILDREN;
+        private Completion[] top = NO_COMPLETIONS;
+
+        Node(String label) {
+            this.label = label;
+        }
+
+        /**
+         * Binary search over children sorted by the first character of their label.
+         */
+        int childIndex(char c) {
+            int low = 0;
+            int high = children.length - 1;
+            while (low <= high) {
+                int mid = (low + high) >>> 1;
+                char key = children[mid].label.charAt(0);
+                if (key < c) {
+                    low = mid + 1;
+                } else if (key > c) {
+                    high = mid - 1;
+                } else {
+                    return mid;
+                }
+            }
+            return -(low + 1);
+        }
+
+        void insertChild(int index, Node child) {
+            Node[] updated = new Node[children.length + 1];
+            System.arraycopy(children, 0, updated, 0, index);
+            updated[index] = child;
+            System.arraycopy(children, index, updated, index + 1, children.length - index);
+            children = updated;
+        }
+
+        void removeChild(Node child) {
+            int index = childIndex(child.label.charAt(0));
+            Node[] updated = new Node[children.length - 1];
+            System.arraycopy(children, 0, updated, 0, index);
+            System.arraycopy(children, index + 1, updated, index, children.length - index - 1);
+            children = updated;
+        }
+    }
+}
@@ -0,0 +1,124 @@
+package com.reliaquest.api.util;
+
+/**
+ * HyperLogLog cardinality sketch that also supports removal.
+ * Each register keeps a count per observed rank instead of only the maximum rank,
+ * so removing a value restores the register exactly. Memory is fixed at
+ * {@code 2^precision * 64} counters regardless of how many values are added.
+ */
+public final class DistinctCountSketch {
+
+    private static final int RANKS = 64;
+
+    private final int precision;
+    private final int registerCount;
+    private final int[] rankCounts;
+    private final byte[] registers;
+
+    public DistinctCountSketch() {
+        this(10);
+    }
+
+    /**
+     * @param precision number of index bits; standard error is about {@code 1.04 / sqrt(2^precision)}
+     */
+    public DistinctCountSketch(int precision) {
+        this.precision = precision;
+        this.registerCount = 1 << precision;
+        this.rankCounts = new int[registerCount * RANKS];
+        this.registers = new byte[registerCount];
+    }
+
+    public void add(String value) {
+        if (value == null) {
+            return;
+        }
+        long hash = hash(value);
+        int register = (int) (hash >>> (64 - precision));
+        int rank = rank(hash);
+        rankCounts[register * RANKS + rank]++;
+        if (rank > registers[register]) {
+            registers[register] = (byte) rank;
+        }
+    }
+
+    public void remove(String value) {
+        if (value == null) {
+            return;
+        }
+        long hash = hash(value);
+        int register = (int) (hash >>> (64 - precision));
+        int rank = rank(hash);
+        int slot = register * RANKS + rank;
+        if (rankCounts[slot] == 0) {
+            return;
+        }
+        rankCounts[slot]--;
+        if (rankCounts[slot] == 0 && registers[register] == rank) {
+            registers[register] = (byte) highestRank(register);
+        }
+    }
+
+    /**
+     * Adds every counter of another sketch with the same precision.
+     * @param other sketch to merge into this one
+     */
+    public void merge(DistinctCountSketch other) {
+        if (other.precision != precision) {
+            throw new IllegalArgumentException("Cannot merge sketches with different precision");
+        }
+        for (int i = 0; i < rankCounts.length; i++) {
+            rankCounts[i] += other.rankCounts[i];
+        }
+        for (int register = 0; register < registerCount; register++) {
+            registers[register] = (byte) Math.max(registers[register], other.registers[register]);
+        }
+    }
+
+    /**
+     * @return estimated number of distinct values currently present
+     */
+    public long estimate() {
+        double sum = 0;
+        int zeros = 0;
+        for (byte register : registers) {
+            sum += 1.0 / (1L << register);
+            if (register == 0) {
+                zeros++;
+            }
+        }
+        double alpha = 0.7213 / (1 + 1.079 / registerCount);
+        double estimate = alpha * registerCount * registerCount / sum;
+        if (estimate <= 2.5 * registerCount && zeros > 0) {
+            estimate = registerCount * Math.log((double) registerCount / zeros);
+        }
+        return Math.round(estimate);
+    }
+
+    private int highestRank(int register) {
+        for (int rank = RANKS - 1; rank > 0; rank--) {
+            if (rankCounts[register * RANKS + rank] > 0) {
+                return rank;
+            }
+        }
+        return 0;
+    }
+
+    private int rank(long hash) {
+        return Math.min(RANKS - 1, Long.numberOfLeadingZeros(hash << precision) + 1);
+    }
+
+    /**
+     * 64-bit FNV-1a over the characters followed by a SplitMix64 finalizer.
+     */
+    private static long hash(String value) {
+        long hash = 0xcbf29ce484222325L;
+        for (int i = 0; i < value.length(); i++) {
+            hash ^= value.charAt(i);
+            hash *= 0x100000001b3L;
+        }
+        hash = (hash ^ (hash >>> 30)) * 0xbf58476d1ce4e5b9L;
+        hash = (hash ^ (hash >>> 27)) * 0x94d049bb133111ebL;
+        return hash ^ (hash >>> 31);
+    }
+}
@@ -0,0 +1,180 @@
+package com.reliaquest.api.util;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.reliaquest.api.model.Employee;
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Writes employees incrementally as NDJSON (one object per line) or CSV (RFC 4180, with a header row).
+ * Nothing is retained between pages, so memory use does not depend on the number of rows written.
+ */
+public final class EmployeeExportWriter implements Closeable {
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
+    public enum Format {
+        NDJSON("application/x-ndjson", "ndjson"),
+        CSV("text/csv", "csv");
+
+        private final String contentType;
+        private final String extension;
+
+        Format(String contentType, String extension) {
+            this.contentType = contentType;
+            this.extension = extension;
+        }
+
+        public String contentType() {
+            return contentType;
+        }
+
+        public String extension() {
+            return extension;
+        }
+
+        /**
+         * @throws IllegalArgumentException for unknown formats
+         */
+        public static Format parse(String format) {
+            try {
+                return valueOf(format.trim().toUpperCase(Locale.ROOT));
+            } catch (IllegalArgumentException e) {
+                throw new IllegalArgumentException(
+                        "format must be one of " + Arrays.toString(values()).toLowerCase(Locale.ROOT));
+            }
+        }
+    }
+
+    /**
+     * Exportable columns; names match the upstream property names so projections can be pushed down.
+     */
+    public enum Column {
+        ID("id", Employee::getId),
+        NAME("name", Employee::getName),
+        SALARY("salary", Employee::getSalary),
+        AGE("age", Employee::getAge),
+        TITLE("title", Employee::getTitle),
+        EMAIL("email", Employee::getEmail);
+
+        private final String key;
+        private final Function<Employee, Object> value;
+
+        Column(String key, Function<Employee, Object> value) {
+            this.key = key;
+            this.value = value;
+        }
+
+        public String key() {
+            return key;
+        }
+
+        /**
+         * @param keys column names, or null/empty for all columns
+         * @throws IllegalArgumentException for unknown names
+         */
+        public static List<Column> parse(List<String> keys) {
+            if (keys == null || keys.isEmpty()) {
+                return List.of(values());
+            }
+            return keys.stream()
+                    .map(key -> Arrays.stream(values())
+                            .filter(column -> column.key.equals(key.trim()))
+                            .findFirst()
+                            .orElseThrow(() -> new IllegalArgumentException("fields must be a subset of "
+                                    + Arrays.stream(values()).map(Column::key).collect(Collectors.joining(",")))))
+                    .distinct()
+                    .toList();
+        }
+    }
+
+    private final Format format;
+    private final List<Column> columns;
+    private final Writer writer;
+    private final JsonGenerator json;
+    private long rows;
+
+    public EmployeeExportWriter(OutputStream out, Format format, List<Column> columns) throws IOException {
+        this.format = format;
+        this.columns = columns;
+        this.writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        if (format == Format.NDJSON) {
+            this.json = JSON_FACTORY.createGenerator(writer);
+            this.json.setRootValueSeparator(new SerializedString("\n"));
+        } else {
+            this.json = null;
+            writeCsvRow(columns.stream().map(Column::key).toList());
+        }
+    }
+
+    /**
+     * Writes one page of rows and flushes it towards the client.
+     */
+    public void write(List<Employee> page) throws IOException {
+        for (Employee employee : page) {
+            rows++;
+            if (json != null) {
+                json.writeStartObject();
+                for (Column column : columns) {
+                    Object value = column.value.apply(employee);
+                    if (value instanceof Integer number) {
+                        json.writeNumberField(column.key, number);
+                    } else {
+                        json.writeStringField(column.key, (String) value);
+                    }
+                }
+                json.writeEndObject();
+            } else {
+                writeCsvRow(columns.stream()
+                        .map(column -> column.value.apply(employee))
+                        .toList());
+            }
+        }
+        if (json != null) {
+            json.flush();
+        }
+        writer.flush();
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (json != null) {
+            if (rows > 0) {
+                json.writeRaw('\n');
+            }
+            json.close();
+        }
+        writer.close();
+    }
+
+    private void writeCsvRow(List<?> values) throws IOException {
+        for (int i = 0; i < values.size(); i++) {
+            if (i > 0) {
+                writer.write(',');
+            }
+            Object value = values.get(i);
+            if (value != null) {
+                writer.write(csvEscape(value.toString()));
+            }
+        }
+        writer.write("\r\n");
+    }
+
+    private static String csvEscape(String value) {
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+            return value;
+        }
+        return '"' + value.replace("\"", "\"\"") + '"';
+    }
+}
@@ -0,0 +1,193 @@
+package com.reliaquest.api.util;
+
+import com.reliaquest.api.model.Employee;
+import com.reliaquest.api.model.EmployeeSnapshot;
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Compact binary file format for {@link EmployeeSnapshot}.
+ * Layout: magic, format version, the title dictionary (each distinct title once), then per shard its ETag and rows.
+ * A row is the id (16 bytes when it is a UUID), name, salary, age, title index and email.
+ * Files are written to a temporary sibling and atomically renamed, and read through a memory mapping.
+ */
+public final class EmployeeSnapshotCodec {
+    private static final int MAGIC = 0x454d5053; // "EMPS"
+    private static final int FORMAT_VERSION = 1;
+    private static final byte UUID_ID = 0;
+    private static final byte STRING_ID = 1;
+    // Smallest encodings, used to reject counts the remaining bytes cannot hold before allocating for them
+    private static final int MIN_TITLE_BYTES = 4;
+    private static final int MIN_SHARD_BYTES = 8;
+    private static final int MIN_ROW_BYTES = 25;
+
+    private EmployeeSnapshotCodec() {}
+
+    public static void write(EmployeeSnapshot snapshot, Path path) throws IOException {
+        Path parent = path.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        Map<String, Integer> titles = new HashMap<>();
+        List<String> titleTable = new ArrayList<>();
+        snapshot.shards().forEach(shard -> shard.employees().forEach(employee -> {
+            if (employee.getTitle() != null && !titles.containsKey(employee.getTitle())) {
+                titles.put(employee.getTitle(), titleTable.size());
+                titleTable.add(employee.getTitle());
+            }
+        }));
+
+        Path temporary = path.resolveSibling(path.getFileName() + ".tmp");
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temporary)))) {
+            out.writeInt(MAGIC);
+            out.writeInt(FORMAT_VERSION);
+            out.writeInt(titleTable.size());
+            for (String title : titleTable) {
+                writeString(out, title);
+            }
+            out.writeInt(snapshot.shards().size());
+            for (EmployeeSnapshot.Shard shard : snapshot.shards()) {
+                writeString(out, shard.etag());
+                out.writeInt(shard.employees().size());
+                for (Employee employee : shard.employees()) {
+                    writeId(out, employee.getId());
+                    writeString(out, employee.getName());
+                    out.writeInt(employee.getSalary());
+                    out.writeInt(employee.getAge());
+                    out.writeInt(employee.getTitle() == null ? -1 : titles.get(employee.getTitle()));
+                    writeString(out, employee.getEmail());
+                }
+            }
+        }
+        try (FileChannel channel = FileChannel.open(temporary, StandardOpenOption.WRITE)) {
+            channel.force(true);
+        }
+        Files.move(temporary, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    /**
+     * @throws IOException if the file is missing, truncated or not a snapshot of this format version
+     */
+    public static EmployeeSnapshot read(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            if (buffer.getInt() != MAGIC || buffer.getInt() != FORMAT_VERSION) {
+                throw new IOException("Not an employee snapshot of format version " + FORMAT_VERSION + ": " + path);
+            }
+            String[] titles = new String[readCount(buffer, MIN_TITLE_BYTES)];
+            for (int i = 0; i < titles.length; i++) {
+                titles[i] = StringDictionary.TITLES.intern(readString(buffer));
+            }
+            int shardCount = readCount(buffer, MIN_SHARD_BYTES);
+            List<EmployeeSnapshot.Shard> shards = new ArrayList<>(shardCount);
+            for (int s = 0; s < shardCount; s++) {
+                String etag = readString(buffer);
+                int count = readCount(buffer, MIN_ROW_BYTES);
+                List<Employee> employees = new ArrayList<>(count);
+                for (int i = 0; i < count; i++) {
+                    Employee employee = new Employee();
+                    employee.setId(readId(buffer));
+                    employee.setName(readString(buffer));
+                    employee.setSalary(buffer.getInt());
+                    employee.setAge(buffer.getInt());
+                    int title = buffer.getInt();
+                    employee.setTitle(title < 0 ? null : titles[title]);
+                    employee.setEmail(readString(buffer));
+                    employees.add(employee);
+                }
+                shards.add(new EmployeeSnapshot.Shard(etag, employees));
+            }
+            return new EmployeeSnapshot(shards);
+        } catch (BufferUnderflowException
+                | IndexOutOfBoundsException
+                | IllegalArgumentException
+                | NegativeArraySizeException e) {
+            throw new IOException("Corrupt employee snapshot: " + path, e);
+        }
+    }
+
+    /**
+     * Reads an element count, rejecting one that the rest of the file is too short to hold.
+     */
+    private static int readCount(ByteBuffer buffer, int minBytesEach) {
+        int count = buffer.getInt();
+        if (count < 0 || (long) count * minBytesEach > buffer.remaining()) {
+            throw new IllegalArgumentException(
+                    "Count " + count + " exceeds the remaining " + buffer.remaining() + " bytes");
+        }
+        return count;
+    }
+
+    private static void writeId(DataOutputStream out, String id) throws IOException {
+        UUID uuid = parseUuid(id);
+        if (uuid != null) {
+            out.writeByte(UUID_ID);
+            out.writeLong(uuid.getMostSignificantBits());
+            out.writeLong(uuid.getLeastSignificantBits());
+        } else {
+            out.writeByte(STRING_ID);
+            writeString(out, id);
+        }
+    }
+
+    private static String readId(ByteBuffer buffer) {
+        if (buffer.get() == UUID_ID) {
+            return new UUID(buffer.getLong(), buffer.getLong()).toString();
+        }
+        return readString(buffer);
+    }
+
+    private static UUID parseUuid(String id) {
+        if (id == null || id.length() != 36) {
+            return null;
+        }
+        try {
+            UUID uuid = UUID.fromString(id);
+            return uuid.toString().equals(id) ? uuid : null;
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Length-prefixed UTF-8; length -1 encodes null.
+     */
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        if (value == null) {
+            out.writeInt(-1);
+            return;
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private static String readString(ByteBuffer buffer) {
+        int length = buffer.getInt();
+        if (length < 0) {
+            return null;
+        }
+        if (length > buffer.remaining()) {
+            throw new IllegalArgumentException(
+                    "String length " + length + " exceeds the remaining " + buffer.remaining() + " bytes");
+        }
+        byte[] bytes = new byte[length];
+        buffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
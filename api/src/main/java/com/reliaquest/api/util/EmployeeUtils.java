@@ -1,6 +1,9 @@
 package com.reliaquest.api.util;
 
 import com.reliaquest.api.model.Employee;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
 import java.util.List;
 import java.util.PriorityQueue;
 import java.util.stream.Collectors;
@@ -24,21 +27,55 @@ public final class EmployeeUtils {
      * @return list of top k employee names
      */
     public static List<String> getTopKEarners(List<Employee> employees, int k) {
-        PriorityQueue<Employee> minHeap = new PriorityQueue<>((a, b) -> Integer.compare(a.getSalary(), b.getSalary()));
+        try (Tracing.Scope ignored = Tracing.span("employeeUtils.topKEarners")) {
+            PriorityQueue<Employee> minHeap =
+                    new PriorityQueue<>((a, b) -> Integer.compare(a.getSalary(), b.getSalary()));
 
-        for (Employee emp : employees) {
-            if (minHeap.size() < k) {
-                minHeap.offer(emp);
-            } else if (emp.getSalary() > minHeap.peek().getSalary()) {
-                minHeap.poll();
-                minHeap.offer(emp);
+            for (Employee emp : employees) {
+                if (minHeap.size() < k) {
+                    minHeap.offer(emp);
+                } else if (emp.getSalary() > minHeap.peek().getSalary()) {
+                    minHeap.poll();
+                    minHeap.offer(emp);
+                }
             }
+
+            return minHeap.stream()
+                    .sorted((a, b) -> Integer.compare(b.getSalary(), a.getSalary()))
+                    .map(Employee::getName)
+                    .collect(Collectors.toList());
         }
+    }
 
-        return minHeap.stream()
-                .sorted((a, b) -> Integer.compare(b.getSalary(), a.getSalary()))
-                .map(Employee::getName)
-                .collect(Collectors.toList());
+    /**
+     * K-way merge of per-shard lists already sorted by descending salary (O(k log s) for s shards).
+     *
+     * @param sortedLists lists sorted by descending salary
+     * @param k number of employees to return
+     * @return top k employees, highest salary first
+     */
+    public static List<Employee> mergeTopKEarners(List<List<Employee>> sortedLists, int k) {
+        record Head(Employee employee, Iterator<Employee> rest) {}
+        try (Tracing.Scope ignored = Tracing.span("employeeUtils.mergeTopKEarners")) {
+            PriorityQueue<Head> heads = new PriorityQueue<>(
+                    Comparator.comparingInt((Head head) -> head.employee().getSalary())
+                            .reversed());
+            for (List<Employee> list : sortedLists) {
+                Iterator<Employee> iterator = list.iterator();
+                if (iterator.hasNext()) {
+                    heads.offer(new Head(iterator.next(), iterator));
+                }
+            }
+            List<Employee> merged = new ArrayList<>(k);
+            while (merged.size() < k && !heads.isEmpty()) {
+                Head head = heads.poll();
+                merged.add(head.employee());
+                if (head.rest().hasNext()) {
+                    heads.offer(new Head(head.rest().next(), head.rest()));
+                }
+            }
+            return merged;
+        }
     }
 
     /**
@@ -50,10 +87,12 @@ public final class EmployeeUtils {
      * @return filtered list of employees
      */
     public static List<Employee> searchByName(List<Employee> employees, String searchTerm) {
-        String lowerSearch = searchTerm.toLowerCase();
-        return employees.parallelStream()
-                .filter(emp -> emp.getName().toLowerCase().contains(lowerSearch))
-                .collect(Collectors.toList());
+        try (Tracing.Scope ignored = Tracing.span("employeeUtils.searchByName")) {
+            String lowerSearch = searchTerm.toLowerCase();
+            return employees.parallelStream()
+                    .filter(emp -> emp.getName().toLowerCase().contains(lowerSearch))
+                    .collect(Collectors.toList());
+        }
     }
 
     /**
@@ -63,6 +102,8 @@ public final class EmployeeUtils {
      * @return maximum salary
      */
     public static int findMaxSalary(List<Employee> employees) {
-        return employees.stream().mapToInt(Employee::getSalary).max().orElse(0);
+        try (Tracing.Scope ignored = Tracing.span("employeeUtils.maxSalary")) {
+            return employees.stream().mapToInt(Employee::getSalary).max().orElse(0);
+        }
     }
 }
@@ -0,0 +1,50 @@
+package com.reliaquest.api.util;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Sliding window of the most recent latency samples with a cached percentile.
+ * Recording is lock-free; the percentile is recomputed every {@link #REFRESH_INTERVAL} samples,
+ * so reading it is O(1).
+ */
+public final class LatencyWindow {
+    private static final int REFRESH_INTERVAL = 32;
+
+    private final AtomicLongArray samples;
+    private final AtomicLong recorded = new AtomicLong();
+    private final double percentile;
+    private volatile long cached;
+
+    /**
+     * @param size number of samples kept
+     * @param percentile rank in [0, 1] to track
+     * @param initialNanos value reported until the window has been filled once
+     */
+    public LatencyWindow(int size, double percentile, long initialNanos) {
+        this.samples = new AtomicLongArray(size);
+        this.percentile = percentile;
+        this.cached = initialNanos;
+    }
+
+    public void record(long nanos) {
+        long n = recorded.getAndIncrement();
+        samples.set((int) (n % samples.length()), nanos);
+        if (n + 1 >= samples.length() && (n + 1) % REFRESH_INTERVAL == 0) {
+            long[] snapshot = new long[samples.length()];
+            for (int i = 0; i < snapshot.length; i++) {
+                snapshot[i] = samples.get(i);
+            }
+            Arrays.sort(snapshot);
+            cached = snapshot[(int) Math.min(snapshot.length - 1, Math.floor(percentile * snapshot.length))];
+        }
+    }
+
+    /**
+     * @return latency at the tracked percentile, in nanoseconds
+     */
+    public long percentileNanos() {
+        return cached;
+    }
+}
@@ -0,0 +1,52 @@
+package com.reliaquest.api.util;
+
+/**
+ * Bounded Levenshtein distance.
+ * Stops as soon as every cell of a DP row exceeds the bound, so far-apart strings cost O(bound) rows instead of O(n*m).
+ */
+public final class Levenshtein {
+
+    private Levenshtein() {
+        // Utility class - prevent instantiation
+    }
+
+    /**
+     * @param a first string
+     * @param b second string
+     * @param max distance bound
+     * @return the edit distance, or {@code max + 1} if it exceeds {@code max}
+     */
+    public static int distance(CharSequence a, CharSequence b, int max) {
+        int bound = max == Integer.MAX_VALUE ? Integer.MAX_VALUE - 1 : max;
+        if (Math.abs(a.length() - b.length()) > bound) {
+            return bound + 1;
+        }
+        if (a.length() < b.length()) {
+            CharSequence swap = a;
+            a = b;
+            b = swap;
+        }
+        int[] previous = new int[b.length() + 1];
+        int[] current = new int[b.length() + 1];
+        for (int j = 0; j <= b.length(); j++) {
+            previous[j] = j;
+        }
+        for (int i = 1; i <= a.length(); i++) {
+            current[0] = i;
+            int rowMin = current[0];
+            char ca = a.charAt(i - 1);
+            for (int j = 1; j <= b.length(); j++) {
+                int substitution = previous[j - 1] + (ca == b.charAt(j - 1) ? 0 : 1);
+                current[j] = Math.min(substitution, Math.min(previous[j], current[j - 1]) + 1);
+                rowMin = Math.min(rowMin, current[j]);
+            }
+            if (rowMin > bound) {
+                return bound + 1;
+            }
+            int[] swap = previous;
+            previous = current;
+            current = swap;
+        }
+        return Math.min(previous[b.length()], bound + 1);
+    }
+}
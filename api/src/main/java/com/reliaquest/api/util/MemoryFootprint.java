@@ -0,0 +1,79 @@
+package com.reliaquest.api.util;
+
+import com.reliaquest.api.model.Employee;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Estimates the retained heap of an employee dataset, assuming a 64-bit JVM with compressed oops and compact strings.
+ * Strings are counted once per distinct instance, so the report reflects how much interning saves.
+ */
+public final class MemoryFootprint {
+
+    private static final int OBJECT_HEADER = 12;
+    private static final int ARRAY_HEADER = 16;
+    private static final int REFERENCE = 4;
+    private static final int ALIGNMENT = 8;
+
+    /** Employee: header, four references, two ints. */
+    private static final long EMPLOYEE_BYTES = align(OBJECT_HEADER + 4L * REFERENCE + 2L * Integer.BYTES);
+
+    /** String: header, value reference, hash, coder byte and hashIsZero flag. */
+    private static final long STRING_BYTES = align(OBJECT_HEADER + REFERENCE + Integer.BYTES + 2L);
+
+    private MemoryFootprint() {
+        // Utility class - prevent instantiation
+    }
+
+    /**
+     * Builds a footprint report for the given employees.
+     *
+     * @param employees dataset to measure
+     * @return estimated heap usage broken down by component
+     */
+    public static Report of(List<Employee> employees) {
+        Set<String> seen = Collections.newSetFromMap(new IdentityHashMap<>());
+        long stringBytes = 0;
+        for (Employee employee : employees) {
+            stringBytes += sizeOfNew(employee.getId(), seen);
+            stringBytes += sizeOfNew(employee.getName(), seen);
+            stringBytes += sizeOfNew(employee.getTitle(), seen);
+            stringBytes += sizeOfNew(employee.getEmail(), seen);
+        }
+        long listBytes = align(ARRAY_HEADER + (long) employees.size() * REFERENCE);
+        return new Report(employees.size(), employees.size() * EMPLOYEE_BYTES + listBytes, seen.size(), stringBytes);
+    }
+
+    private static long sizeOfNew(String value, Set<String> seen) {
+        if (value == null || !seen.add(value)) {
+            return 0;
+        }
+        boolean latin1 = value.chars().allMatch(c -> c < 256);
+        return STRING_BYTES + align(ARRAY_HEADER + (long) value.length() * (latin1 ? 1 : 2));
+    }
+
+    private static long align(long bytes) {
+        return (bytes + ALIGNMENT - 1) / ALIGNMENT * ALIGNMENT;
+    }
+
+    /**
+     * Estimated heap usage of an employee dataset.
+     *
+     * @param employees number of rows
+     * @param objectBytes bytes held by employee objects and the backing array
+     * @param distinctStrings number of distinct string instances
+     * @param stringBytes bytes held by those strings
+     */
+    public record Report(int employees, long objectBytes, int distinctStrings, long stringBytes) {
+
+        public long totalBytes() {
+            return objectBytes + stringBytes;
+        }
+
+        public double bytesPerEmployee() {
+            return employees == 0 ? 0 : (double) totalBytes() / employees;
+        }
+    }
+}
@@ -0,0 +1,120 @@
+package com.reliaquest.api.util;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Relative-error quantile sketch over positive integers using logarithmic buckets (DDSketch style).
+ * Every estimate is within the configured relative accuracy of a true value at that rank.
+ * Unlike t-digest or KLL, bucket counts can be decremented, so removals are exact.
+ * Memory is a fixed array sized by the value range; updates are O(1) and queries scan that fixed array.
+ */
+public final class QuantileSketch {
+
+    private final double gamma;
+    private final double logGamma;
+    private final long[] counts;
+    private long total;
+
+    /**
+     * @param relativeAccuracy maximum relative error of returned values, e.g. 0.01 for 1%
+     */
+    public QuantileSketch(double relativeAccuracy) {
+        this.gamma = (1 + relativeAccuracy) / (1 - relativeAccuracy);
+        this.logGamma = Math.log(gamma);
+        this.counts = new long[index(Integer.MAX_VALUE) + 1];
+    }
+
+    public void add(int value) {
+        counts[index(value)]++;
+        total++;
+    }
+
+    public void remove(int value) {
+        int index = index(value);
+        if (counts[index] > 0) {
+            counts[index]--;
+            total--;
+        }
+    }
+
+    /**
+     * Adds every count of another sketch built with the same accuracy.
+     * @param other sketch to merge into this one
+     */
+    public void merge(QuantileSketch other) {
+        if (other.counts.length != counts.length) {
+            throw new IllegalArgumentException("Cannot merge sketches with different accuracy");
+        }
+        for (int i = 0; i < counts.length; i++) {
+            counts[i] += other.counts[i];
+        }
+        total += other.total;
+    }
+
+    public long count() {
+        return total;
+    }
+
+    /**
+     * @param quantile rank in [0, 1]
+     * @return estimated value at that rank, or 0 if the sketch is empty
+     */
+    public int quantile(double quantile) {
+        if (total == 0) {
+            return 0;
+        }
+        long rank = (long) Math.floor(Math.max(0, Math.min(1, quantile)) * (total - 1));
+        long seen = 0;
+        for (int i = 0; i < counts.length; i++) {
+            seen += counts[i];
+            if (seen > rank) {
+                return value(i);
+            }
+        }
+        return value(counts.length - 1);
+    }
+
+    /**
+     * Folds the logarithmic buckets into equal-width bins between the minimum and maximum estimates.
+     * @param bins number of bins
+     * @return bins in ascending order
+     */
+    public List<Bin> histogram(int bins) {
+        List<Bin> result = new ArrayList<>(bins);
+        if (total == 0 || bins <= 0) {
+            return result;
+        }
+        int min = quantile(0);
+        int max = quantile(1);
+        long width = Math.max(1, ((long) max - min + bins) / bins);
+        long[] binCounts = new long[bins];
+        for (int i = 0; i < counts.length; i++) {
+            if (counts[i] > 0) {
+                int bin = (int) Math.min(bins - 1, Math.max(0, (value(i) - min) / width));
+                binCounts[bin] += counts[i];
+            }
+        }
+        for (int b = 0; b < bins; b++) {
+            long lower = min + b * width;
+            result.add(new Bin(lower, lower + width, binCounts[b]));
+        }
+        return result;
+    }
+
+    private int index(int value) {
+        return value <= 1 ? 0 : (int) Math.ceil(Math.log(value) / logGamma);
+    }
+
+    private int value(int index) {
+        return index == 0 ? 1 : (int) Math.min(Integer.MAX_VALUE, Math.round(2 * Math.pow(gamma, index) / (gamma + 1)));
+    }
+
+    /**
+     * Histogram bin covering [lower, upper).
+     * @param lower inclusive lower bound
+     * @param upper exclusive upper bound
+     * @param count number of values in the bin
+     */
+    public record Bin(long lower, long upper, long count) {}
+}
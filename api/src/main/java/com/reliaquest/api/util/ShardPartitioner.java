@@ -0,0 +1,50 @@
+package com.reliaquest.api.util;
+
+import java.util.UUID;
+
+/**
+ * Hash partitioner mapping employees to upstream shards.
+ * Must stay identical to the mock server's {@code ShardPartitioner}, which mints ids owned by its own shard.
+ */
+public final class ShardPartitioner {
+
+    private ShardPartitioner() {
+        // Utility class - prevent instantiation
+    }
+
+    /**
+     * @param id employee id
+     * @param shards number of shards
+     * @return owning shard, or 0 when the id is not a UUID
+     */
+    public static int shardOf(String id, int shards) {
+        try {
+            return shardOf(UUID.fromString(id), shards);
+        } catch (IllegalArgumentException | NullPointerException e) {
+            return 0;
+        }
+    }
+
+    public static int shardOf(UUID id, int shards) {
+        return Math.floorMod(mix(id.getMostSignificantBits() ^ id.getLeastSignificantBits()), shards);
+    }
+
+    /**
+     * Places a new employee, whose id is not known yet, by name.
+     * @param name employee name
+     * @param shards number of shards
+     * @return shard to create the employee on
+     */
+    public static int placementOf(String name, int shards) {
+        return Math.floorMod(mix(name == null ? 0 : name.hashCode()), shards);
+    }
+
+    /**
+     * SplitMix64 finalizer.
+     */
+    private static long mix(long z) {
+        z = (z ^ (z >>> 30)) * 0xbf58476d1ce4e5b9L;
+        z = (z ^ (z >>> 27)) * 0x94d049bb133111ebL;
+        return z ^ (z >>> 31);
+    }
+}
@@ -0,0 +1,48 @@
+package com.reliaquest.api.util;
+
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Bounded interning dictionary for low-cardinality string values.
+ * Canonicalizes equal strings to a single instance so large datasets hold one copy per distinct value.
+ * Once full, unseen values are returned as-is rather than growing without bound.
+ */
+public final class StringDictionary {
+
+    /**
+     * Shared dictionary for job titles, which come from a small vocabulary.
+     */
+    public static final StringDictionary TITLES = new StringDictionary(1 << 16);
+
+    private final ConcurrentHashMap<String, String> entries = new ConcurrentHashMap<>();
+    private final int maxEntries;
+
+    public StringDictionary(int maxEntries) {
+        this.maxEntries = maxEntries;
+    }
+
+    /**
+     * Returns the canonical instance equal to the given value.
+     *
+     * @param value string to intern, may be null
+     * @return canonical instance, or the value itself if the dictionary is full
+     */
+    public String intern(String value) {
+        if (value == null) {
+            return null;
+        }
+        String canonical = entries.get(value);
+        if (canonical != null) {
+            return canonical;
+        }
+        if (entries.size() >= maxEntries) {
+            return value;
+        }
+        canonical = entries.putIfAbsent(value, value);
+        return canonical != null ? canonical : value;
+    }
+
+    public int size() {
+        return entries.size();
+    }
+}
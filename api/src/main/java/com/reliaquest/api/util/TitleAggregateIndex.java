@@ -0,0 +1,114 @@
+package com.reliaquest.api.util;
+
+import com.reliaquest.api.model.Employee;
+import com.reliaquest.api.model.TitleAggregate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.PriorityQueue;
+import java.util.TreeMap;
+
+/**
+ * Materialized group-by-title view.
+ * Headcount and sums are updated in O(1); min/max stay correct under removal by keeping a
+ * salary multiset per title, which costs O(log k) where k is the number of distinct salaries in that title.
+ * Reads depend only on the number of titles, never on the number of employees. Not thread-safe.
+ */
+public final class TitleAggregateIndex {
+
+    private final Map<String, Group> groups = new HashMap<>();
+
+    public void add(Employee employee) {
+        groups.computeIfAbsent(employee.getTitle(), ignored -> new Group()).add(employee);
+    }
+
+    public void remove(Employee employee) {
+        Group group = groups.get(employee.getTitle());
+        if (group != null && group.remove(employee)) {
+            groups.remove(employee.getTitle());
+        }
+    }
+
+    public Optional<TitleAggregate> get(String title) {
+        return Optional.ofNullable(groups.get(title)).map(group -> group.toAggregate(title));
+    }
+
+    public List<TitleAggregate> getAll() {
+        List<TitleAggregate> result = new ArrayList<>(groups.size());
+        groups.forEach((title, group) -> result.add(group.toAggregate(title)));
+        result.sort(Comparator.comparing(TitleAggregate::title, Comparator.nullsFirst(Comparator.naturalOrder())));
+        return result;
+    }
+
+    /**
+     * Finds the top N titles by average salary using a min-heap (O(t log n) for t titles).
+     * @param n number of titles to return
+     * @return titles ordered by descending average salary
+     */
+    public List<TitleAggregate> getTopByAverageSalary(int n) {
+        Comparator<TitleAggregate> byAverage = Comparator.comparingDouble(TitleAggregate::averageSalary);
+        PriorityQueue<TitleAggregate> minHeap = new PriorityQueue<>(byAverage);
+        groups.forEach((title, group) -> {
+            TitleAggregate aggregate = group.toAggregate(title);
+            if (minHeap.size() < n) {
+                minHeap.offer(aggregate);
+            } else if (n > 0 && aggregate.averageSalary() > minHeap.peek().averageSalary()) {
+                minHeap.poll();
+                minHeap.offer(aggregate);
+            }
+        });
+        List<TitleAggregate> result = new ArrayList<>(minHeap);
+        result.sort(byAverage.reversed());
+        return result;
+    }
+
+    public int size() {
+        return groups.size();
+    }
+
+    private static final class Group {
+        private long headcount;
+        private long salarySum;
+        private long ageSum;
+        private final TreeMap<Integer, Integer> salaries = new TreeMap<>();
+
+        void add(Employee employee) {
+            headcount++;
+            salarySum += employee.getSalary();
+            ageSum += employee.getAge();
+            salaries.merge(employee.getSalary(), 1, Integer::sum);
+        }
+
+        /**
+         * @return true when the group became empty
+         */
+        boolean remove(Employee employee) {
+            Integer count = salaries.get(employee.getSalary());
+            if (count == null) {
+                return false;
+            }
+            if (count == 1) {
+                salaries.remove(employee.getSalary());
+            } else {
+                salaries.put(employee.getSalary(), count - 1);
+            }
+            headcount--;
+            salarySum -= employee.getSalary();
+            ageSum -= employee.getAge();
+            return headcount == 0;
+        }
+
+        TitleAggregate toAggregate(String title) {
+            return new TitleAggregate(
+                    title,
+                    headcount,
+                    (double) salarySum / headcount,
+                    salaries.firstKey(),
+                    salaries.lastKey(),
+                    (double) ageSum / headcount);
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package com.reliaquest.api.util;
+
+import com.reliaquest.api.model.TraceRecord;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Lock-free ring buffer of the most recent traces.
+ * Writers claim a slot with one atomic increment and overwrite the oldest trace; readers take a best-effort view
+ * that may include a trace written while they read.
+ */
+public final class TraceBuffer {
+    private final AtomicReferenceArray<TraceRecord> slots;
+    private final int mask;
+    private final AtomicLong next = new AtomicLong();
+
+    /**
+     * @param capacity number of traces kept, rounded up to a power of two
+     */
+    public TraceBuffer(int capacity) {
+        int size = Integer.highestOneBit(Math.max(1, capacity - 1)) << 1;
+        this.slots = new AtomicReferenceArray<>(size);
+        this.mask = size - 1;
+    }
+
+    public void add(TraceRecord trace) {
+        slots.set((int) (next.getAndIncrement() & mask), trace);
+    }
+
+    /**
+     * @return up to limit traces, newest first
+     */
+    public List<TraceRecord> recent(int limit) {
+        long end = next.get();
+        long oldest = Math.max(0, end - slots.length());
+        List<TraceRecord> traces = new ArrayList<>(Math.min(limit, slots.length()));
+        for (long i = end - 1; i >= oldest && traces.size() < limit; i--) {
+            TraceRecord trace = slots.get((int) (i & mask));
+            if (trace != null) {
+                traces.add(trace);
+            }
+        }
+        return traces;
+    }
+
+    public Optional<TraceRecord> find(String traceId) {
+        for (int i = 0; i < slots.length(); i++) {
+            TraceRecord trace = slots.get(i);
+            if (trace != null && trace.traceId().equals(traceId)) {
+                return Optional.of(trace);
+            }
+        }
+        return Optional.empty();
+    }
+
+    public int capacity() {
+        return slots.length();
+    }
+}
@@ -0,0 +1,128 @@
+package com.reliaquest.api.util;
+
+import com.reliaquest.api.model.TraceRecord;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * In-process request tracing.
+ * A sampled request binds a trace to its thread; code on the request path opens spans with
+ * {@code try (Tracing.Scope ignored = Tracing.span("stage")) { ... }}. Without a bound trace {@link #span(String)}
+ * returns a shared no-op scope, so unsampled requests pay one thread-local lookup per span.
+ */
+public final class Tracing {
+    public static final String TRACE_HEADER = "X-Trace-Id";
+
+    private static final ThreadLocal<ActiveTrace> CURRENT = new ThreadLocal<>();
+    private static final Scope NOOP = () -> {};
+
+    private Tracing() {}
+
+    /**
+     * Ends a span; narrows {@link AutoCloseable#close()} so try-with-resources needs no catch.
+     */
+    @FunctionalInterface
+    public interface Scope extends AutoCloseable {
+        @Override
+        void close();
+    }
+
+    /**
+     * Binds a new trace to the current thread until {@link ActiveTrace#finish(int)}.
+     */
+    public static ActiveTrace begin(String traceId, String name) {
+        ActiveTrace trace = new ActiveTrace(traceId, name);
+        CURRENT.set(trace);
+        return trace;
+    }
+
+    /**
+     * @return id of the trace bound to this thread, or null if the request is not sampled
+     */
+    public static String currentTraceId() {
+        ActiveTrace trace = CURRENT.get();
+        return trace == null ? null : trace.traceId;
+    }
+
+    public static Scope span(String name) {
+        ActiveTrace trace = CURRENT.get();
+        return trace == null ? NOOP : trace.open(name);
+    }
+
+    /**
+     * Records a span measured elsewhere, such as server time reported by the upstream.
+     */
+    public static void record(String name, long startNanos, long durationNanos) {
+        ActiveTrace trace = CURRENT.get();
+        if (trace != null) {
+            trace.add(name, startNanos, durationNanos);
+        }
+    }
+
+    /**
+     * Carries the current trace, if any, into a task run on another thread.
+     */
+    public static Runnable propagate(Runnable task) {
+        ActiveTrace trace = CURRENT.get();
+        if (trace == null) {
+            return task;
+        }
+        return () -> {
+            ActiveTrace previous = CURRENT.get();
+            CURRENT.set(trace);
+            try {
+                task.run();
+            } finally {
+                if (previous == null) {
+                    CURRENT.remove();
+                } else {
+                    CURRENT.set(previous);
+                }
+            }
+        };
+    }
+
+    /**
+     * Trace being recorded. Spans may be added from several threads when work fans out.
+     */
+    public static final class ActiveTrace {
+        private final String traceId;
+        private final String name;
+        private final Instant start = Instant.now();
+        private final long startNanos = System.nanoTime();
+        private final List<TraceRecord.Span> spans = new ArrayList<>();
+
+        private ActiveTrace(String traceId, String name) {
+            this.traceId = traceId;
+            this.name = name;
+        }
+
+        public String traceId() {
+            return traceId;
+        }
+
+        private Scope open(String spanName) {
+            long spanStart = System.nanoTime();
+            return () -> add(spanName, spanStart, System.nanoTime() - spanStart);
+        }
+
+        private synchronized void add(String spanName, long spanStart, long durationNanos) {
+            spans.add(new TraceRecord.Span(
+                    spanName,
+                    spanStart - startNanos,
+                    durationNanos,
+                    Thread.currentThread().getName()));
+        }
+
+        /**
+         * Unbinds the trace from the current thread.
+         * @param status HTTP status of the response
+         * @return the completed trace
+         */
+        public synchronized TraceRecord finish(int status) {
+            CURRENT.remove();
+            return new TraceRecord(traceId, name, start, System.nanoTime() - startNanos, status, List.copyOf(spans));
+        }
+    }
+}
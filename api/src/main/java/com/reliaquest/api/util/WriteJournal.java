@@ -0,0 +1,162 @@
+package com.reliaquest.api.util;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reliaquest.api.model.WriteOperation;
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Append-only journal of queued mutations, one line per record.
+ * {@code +<json>} records an accepted operation and {@code -<trackingId>} its completion, followed by
+ * {@code  <employeeId>} when a create produced an employee; every append is forced to disk before returning,
+ * so an accepted operation survives a crash. A torn trailing line from a crash mid-write is skipped on replay.
+ */
+@Slf4j
+public class WriteJournal implements Closeable {
+    private static final char ENQUEUED = '+';
+    private static final char COMPLETED = '-';
+
+    private final Path path;
+    private final ObjectMapper objectMapper;
+    private FileChannel channel;
+
+    public WriteJournal(Path path, ObjectMapper objectMapper) throws IOException {
+        this.path = path;
+        this.objectMapper = objectMapper;
+        Path parent = path.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        this.channel = open(path);
+    }
+
+    /**
+     * Reads the operations that were accepted but never completed, in acceptance order,
+     * and compacts the journal down to them. A pending delete of a queued create that has since completed
+     * is resolved to the employee id the create produced.
+     */
+    public synchronized List<WriteOperation> replay() throws IOException {
+        Map<String, WriteOperation> pending = new LinkedHashMap<>();
+        Map<String, String> created = new HashMap<>();
+        try (BufferedReader reader = Files.newBufferedReader(path, StandardCharsets.UTF_8)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.isEmpty()) {
+                    continue;
+                }
+                String body = line.substring(1);
+                if (line.charAt(0) == COMPLETED) {
+                    int separator = body.indexOf(' ');
+                    if (separator < 0) {
+                        pending.remove(body);
+                    } else {
+                        pending.remove(body.substring(0, separator));
+                        created.put(body.substring(0, separator), body.substring(separator + 1));
+                    }
+                } else if (line.charAt(0) == ENQUEUED) {
+                    try {
+                        WriteOperation operation = objectMapper.readValue(body, WriteOperation.class);
+                        pending.put(operation.trackingId(), operation);
+                    } catch (JsonProcessingException e) {
+                        log.warn("Skipping unreadable journal record in {}", path);
+                    }
+                }
+            }
+        }
+        List<WriteOperation> operations = new ArrayList<>(pending.size());
+        for (WriteOperation operation : pending.values()) {
+            String employeeId = operation.employeeId() == null && operation.createTrackingId() != null
+                    ? created.get(operation.createTrackingId())
+                    : null;
+            operations.add(employeeId == null ? operation : operation.resolved(employeeId));
+        }
+        compact(operations);
+        return operations;
+    }
+
+    public synchronized void append(WriteOperation operation) throws IOException {
+        write(ENQUEUED + objectMapper.writeValueAsString(operation) + "\n");
+    }
+
+    /**
+     * Records completion of several operations with a single forced write.
+     */
+    public synchronized void complete(Collection<String> trackingIds) throws IOException {
+        Map<String, String> completions = new LinkedHashMap<>();
+        trackingIds.forEach(id -> completions.put(id, null));
+        complete(completions);
+    }
+
+    /**
+     * Records completion of several operations with a single forced write.
+     * @param completions tracking id to the id of the employee a create produced, or to null
+     */
+    public synchronized void complete(Map<String, String> completions) throws IOException {
+        if (completions.isEmpty()) {
+            return;
+        }
+        StringBuilder records = new StringBuilder();
+        completions.forEach((id, employeeId) -> {
+            records.append(COMPLETED).append(id);
+            if (employeeId != null) {
+                records.append(' ').append(employeeId);
+            }
+            records.append('\n');
+        });
+        write(records.toString());
+    }
+
+    /**
+     * Atomically replaces the journal with one holding only the given operations.
+     */
+    public synchronized void compact(Collection<WriteOperation> pending) throws IOException {
+        Path compacted = path.resolveSibling(path.getFileName() + ".tmp");
+        try (FileChannel out = FileChannel.open(
+                compacted, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            for (WriteOperation operation : pending) {
+                writeFully(out, ENQUEUED + objectMapper.writeValueAsString(operation) + "\n");
+            }
+            out.force(true);
+        }
+        channel.close();
+        Files.move(compacted, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        channel = open(path);
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        channel.close();
+    }
+
+    private void write(String records) throws IOException {
+        writeFully(channel, records);
+        channel.force(false);
+    }
+
+    private static void writeFully(FileChannel target, String records) throws IOException {
+        ByteBuffer buffer = ByteBuffer.wrap(records.getBytes(StandardCharsets.UTF_8));
+        while (buffer.hasRemaining()) {
+            target.write(buffer);
+        }
+    }
+
+    private static FileChannel open(Path path) throws IOException {
+        return FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+    }
+}
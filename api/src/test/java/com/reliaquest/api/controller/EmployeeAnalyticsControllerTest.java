@@ -0,0 +1,65 @@
+package com.reliaquest.api.controller;
+
+import static org.mockito.Mockito.*;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+import com.reliaquest.api.model.TitleAggregate;
+import com.reliaquest.api.security.SecurityConfig;
+import com.reliaquest.api.service.EmployeeAnalyticsService;
+import com.reliaquest.api.service.TitleAggregateService;
+import java.util.List;
+import java.util.Optional;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.web.servlet.MockMvc;
+
+@WebMvcTest(EmployeeAnalyticsController.class)
+@Import(SecurityConfig.class)
+class EmployeeAnalyticsControllerTest {
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private EmployeeAnalyticsService analyticsService;
+
+    @MockBean
+    private TitleAggregateService titleAggregateService;
+
+    @Test
+    void titleNamedLikeAnEndpointCanBeLookedUp() throws Exception {
+        when(titleAggregateService.getAggregate("top"))
+                .thenReturn(Optional.of(new TitleAggregate("top", 1, 50_000, 50_000, 50_000, 30)));
+
+        mockMvc.perform(get("/api/v1/employee/analytics/titles")
+                        .param("title", "top")
+                        .with(httpBasic("user", "user123")))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.title").value("top"));
+        verify(titleAggregateService, never()).getTopByAverageSalary(anyInt());
+    }
+
+    @Test
+    void unknownTitleIsNotFound() throws Exception {
+        when(titleAggregateService.getAggregate("Astronaut")).thenReturn(Optional.empty());
+
+        mockMvc.perform(get("/api/v1/employee/analytics/titles")
+                        .param("title", "Astronaut")
+                        .with(httpBasic("user", "user123")))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    void titlesWithoutParameterListsAll() throws Exception {
+        when(titleAggregateService.getAggregates())
+                .thenReturn(List.of(new TitleAggregate("Engineer", 2, 80_000, 70_000, 90_000, 35)));
+
+        mockMvc.perform(get("/api/v1/employee/analytics/titles").with(httpBasic("user", "user123")))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].title").value("Engineer"));
+    }
+}
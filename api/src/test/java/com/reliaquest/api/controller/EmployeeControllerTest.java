@@ -60,4 +60,17 @@ class EmployeeControllerTest {
                         .content(objectMapper.writeValueAsString(input)))
                 .andExpect(status().isOk());
     }
+
+    @Test
+    void highestSalaryIsPushedDown() throws Exception {
+        Employee emp = new Employee();
+        emp.setName("John");
+        emp.setSalary(90000);
+        when(employeeService.getTopEarners(1)).thenReturn(Arrays.asList(emp));
+
+        mockMvc.perform(get("/api/v1/employee/highestSalary").with(httpBasic("user", "user123")))
+                .andExpect(status().isOk())
+                .andExpect(content().string("90000"));
+        verify(employeeService, never()).getAllEmployees();
+    }
 }
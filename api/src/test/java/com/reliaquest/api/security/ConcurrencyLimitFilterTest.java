@@ -0,0 +1,57 @@
+package com.reliaquest.api.security;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.reliaquest.api.util.AdaptiveConcurrencyLimiter;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+class ConcurrencyLimitFilterTest {
+    private final AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(1, 1, 1, 0);
+    private final ConcurrencyLimitFilter filter = new ConcurrencyLimitFilter(limiter, Duration.ZERO);
+
+    @Test
+    void admittedRequestHoldsASlotWhileServed() throws Exception {
+        AtomicBoolean held = new AtomicBoolean();
+
+        filter.doFilter(
+                new MockHttpServletRequest(),
+                new MockHttpServletResponse(),
+                (request, response) -> held.set(limiter.isHeldByCurrentThread()));
+
+        assertTrue(held.get());
+        assertEquals(0, limiter.inFlight());
+        assertFalse(limiter.isHeldByCurrentThread());
+    }
+
+    @Test
+    void rejectsWith503AndRetryAfterOverTheLimit() throws Exception {
+        assertTrue(limiter.acquire(0, TimeUnit.MILLISECONDS));
+        AtomicBoolean served = new AtomicBoolean();
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        filter.doFilter(new MockHttpServletRequest(), response, (req, res) -> served.set(true));
+
+        assertFalse(served.get());
+        assertEquals(503, response.getStatus());
+        assertEquals("1", response.getHeader("Retry-After"));
+        assertEquals(1, limiter.rejected());
+        assertEquals(1, limiter.inFlight());
+    }
+
+    @Test
+    void releasesTheSlotWhenTheRequestFails() {
+        assertThrows(
+                IllegalStateException.class,
+                () -> filter.doFilter(new MockHttpServletRequest(), new MockHttpServletResponse(), (req, res) -> {
+                    throw new IllegalStateException("boom");
+                }));
+
+        assertEquals(0, limiter.inFlight());
+        assertFalse(limiter.isHeldByCurrentThread());
+    }
+}
@@ -0,0 +1,49 @@
+package com.reliaquest.api.security;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.reliaquest.api.util.TraceBuffer;
+import com.reliaquest.api.util.Tracing;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+class TracingFilterTest {
+    private final TraceBuffer traceBuffer = new TraceBuffer(16);
+
+    @Test
+    void untrustedInboundTraceIdDoesNotForceSampling() throws Exception {
+        MockHttpServletResponse response = filter(new TracingFilter(traceBuffer, 0, false), "chosen-by-client");
+
+        assertNull(response.getHeader(Tracing.TRACE_HEADER));
+        assertTrue(traceBuffer.recent(16).isEmpty());
+    }
+
+    @Test
+    void untrustedInboundTraceIdIsReplacedWhenSampled() throws Exception {
+        MockHttpServletResponse response = filter(new TracingFilter(traceBuffer, 1, false), "chosen-by-client");
+
+        String traceId = response.getHeader(Tracing.TRACE_HEADER);
+        assertNotNull(traceId);
+        assertNotEquals("chosen-by-client", traceId);
+        assertTrue(traceBuffer.find(traceId).isPresent());
+        assertTrue(traceBuffer.find("chosen-by-client").isEmpty());
+    }
+
+    @Test
+    void trustedInboundTraceIdForcesSamplingUnderThatId() throws Exception {
+        MockHttpServletResponse response = filter(new TracingFilter(traceBuffer, 0, true), "from-gateway");
+
+        assertEquals("from-gateway", response.getHeader(Tracing.TRACE_HEADER));
+        assertTrue(traceBuffer.find("from-gateway").isPresent());
+    }
+
+    private static MockHttpServletResponse filter(TracingFilter filter, String traceId) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/employee");
+        request.addHeader(Tracing.TRACE_HEADER, traceId);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request, response, new MockFilterChain());
+        return response;
+    }
+}
@@ -6,6 +6,7 @@ import static org.mockito.Mockito.*;
 
 import com.reliaquest.api.model.ApiResponse;
 import com.reliaquest.api.model.Employee;
+import com.reliaquest.api.util.AdaptiveConcurrencyLimiter;
 import java.util.Arrays;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -44,4 +45,35 @@ class EmployeeServiceTest {
 
         assertEquals(1, employeeService.getAllEmployees().size());
     }
+
+    @Test
+    void samplesLatencyOfCallsMadeByAdmittedRequests() {
+        AdaptiveConcurrencyLimiter limiter = mock(AdaptiveConcurrencyLimiter.class);
+        when(limiter.isHeldByCurrentThread()).thenReturn(true);
+        employeeService.setConcurrencyLimiter(limiter);
+        stubGetAll();
+
+        employeeService.getAllEmployees();
+
+        verify(limiter).onSample(anyLong());
+    }
+
+    @Test
+    void ignoresLatencyOfBackgroundCalls() {
+        AdaptiveConcurrencyLimiter limiter = mock(AdaptiveConcurrencyLimiter.class);
+        employeeService.setConcurrencyLimiter(limiter);
+        stubGetAll();
+
+        employeeService.getAllEmployees();
+
+        verify(limiter, never()).onSample(anyLong());
+        verify(limiter, never()).onDrop();
+    }
+
+    private void stubGetAll() {
+        ApiResponse<java.util.List<Employee>> response = new ApiResponse<>();
+        response.setData(Arrays.asList(new Employee()));
+        when(restTemplate.exchange(anyString(), eq(HttpMethod.GET), any(), any(ParameterizedTypeReference.class)))
+                .thenReturn(ResponseEntity.ok(response));
+    }
 }
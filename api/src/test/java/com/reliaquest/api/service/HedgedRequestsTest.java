@@ -0,0 +1,123 @@
+package com.reliaquest.api.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import org.apache.hc.client5.http.classic.methods.HttpGet;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.client.HttpClientErrorException;
+
+class HedgedRequestsTest {
+    private static final List<String> REPLICAS = List.of("first", "second");
+
+    private final ExecutorService executor = Executors.newCachedThreadPool();
+    private final CountDownLatch release = new CountDownLatch(1);
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        executor.shutdownNow();
+    }
+
+    @Test
+    void fastReplicaIsNotHedged() {
+        HedgedRequests hedged = new HedgedRequests(executor, 0.95, Duration.ofSeconds(10));
+
+        assertEquals("first", hedged.execute(REPLICAS, replica -> replica));
+        assertEquals(0, hedged.hedges.get());
+    }
+
+    @Test
+    void hedgeFiresAfterDelayAndFirstResponseWins() throws Exception {
+        HedgedRequests hedged = new HedgedRequests(executor, 0.95, Duration.ofMillis(100));
+        HttpGet slowRequest = new HttpGet("http://first");
+
+        long start = System.nanoTime();
+        String result = hedged.execute(REPLICAS, replica -> {
+            if (replica.equals("first")) {
+                sendAndHang(slowRequest);
+            }
+            return replica;
+        });
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+        assertEquals("second", result);
+        assertTrue(elapsedMillis >= 100, "hedged after " + elapsedMillis + " ms");
+        assertEquals(1, hedged.hedges.get());
+        // The win is counted just after the result is handed over.
+        for (int i = 0; i < 100 && hedged.hedgeWins.get() == 0; i++) {
+            Thread.sleep(10);
+        }
+        assertEquals(1, hedged.hedgeWins.get());
+    }
+
+    @Test
+    void losingRequestIsAborted() throws Exception {
+        HedgedRequests hedged = new HedgedRequests(executor, 0.95, Duration.ofMillis(10));
+        HttpGet slowRequest = new HttpGet("http://first");
+
+        hedged.execute(REPLICAS, replica -> {
+            if (replica.equals("first")) {
+                sendAndHang(slowRequest);
+            }
+            return replica;
+        });
+
+        for (int i = 0; i < 100 && !slowRequest.isCancelled(); i++) {
+            Thread.sleep(10);
+        }
+        assertTrue(slowRequest.isCancelled());
+    }
+
+    @Test
+    void notFoundFallsThroughToNextReplicaAtOnce() {
+        HedgedRequests hedged = new HedgedRequests(executor, 0.95, Duration.ofSeconds(10));
+
+        String result = hedged.execute(REPLICAS, replica -> {
+            if (replica.equals("first")) {
+                throw new HttpClientErrorException(HttpStatus.NOT_FOUND);
+            }
+            return replica;
+        });
+
+        assertEquals("second", result);
+        assertEquals(1, hedged.hedges.get());
+    }
+
+    @Test
+    void otherClientErrorsAreFinal() {
+        HedgedRequests hedged = new HedgedRequests(executor, 0.95, Duration.ofSeconds(10));
+
+        HttpClientErrorException error = assertThrows(
+                HttpClientErrorException.class,
+                () -> hedged.execute(REPLICAS, replica -> {
+                    if (replica.equals("first")) {
+                        throw new HttpClientErrorException(HttpStatus.BAD_REQUEST);
+                    }
+                    return replica;
+                }));
+
+        assertEquals(HttpStatus.BAD_REQUEST, error.getStatusCode());
+        assertEquals(0, hedged.hedges.get());
+    }
+
+    /**
+     * Registers the request as the real request factory would, then waits like a replica that never answers.
+     */
+    private void sendAndHang(HttpGet request) {
+        new CancellableRequestFactory(HttpClients.createDefault()).postProcessHttpRequest(request);
+        try {
+            release.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
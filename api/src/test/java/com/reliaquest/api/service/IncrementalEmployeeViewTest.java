@@ -0,0 +1,125 @@
+package com.reliaquest.api.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import com.reliaquest.api.model.Employee;
+import com.reliaquest.api.model.EmployeeCreatedEvent;
+import com.reliaquest.api.model.EmployeeDeletedEvent;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class IncrementalEmployeeViewTest {
+
+    @Mock
+    private EmployeeService employeeService;
+
+    @Test
+    void createDuringSeedingThatIsAlsoInTheSeedIsCountedOnce() {
+        Employee seeded = employee("1");
+        Employee created = employee("2");
+        RecordingView view = new RecordingView(employeeService);
+        when(employeeService.getAllEmployees()).thenAnswer(invocation -> {
+            // Delivered from another thread while the seed is being fetched; must not wait for the fetch.
+            CompletableFuture.runAsync(() -> view.onEmployeeCreated(new EmployeeCreatedEvent(created)))
+                    .get(5, TimeUnit.SECONDS);
+            return List.of(seeded, created);
+        });
+
+        assertEquals(List.of("1", "2"), view.ids());
+    }
+
+    @Test
+    void deleteDuringSeedingRemovesTheSeededEmployee() {
+        Employee seeded = employee("1");
+        Employee deleted = employee("2");
+        RecordingView view = new RecordingView(employeeService);
+        when(employeeService.getAllEmployees()).thenAnswer(invocation -> {
+            CompletableFuture.runAsync(() -> view.onEmployeeDeleted(new EmployeeDeletedEvent(deleted)))
+                    .get(5, TimeUnit.SECONDS);
+            return List.of(seeded, deleted);
+        });
+
+        assertEquals(List.of("1"), view.ids());
+    }
+
+    @Test
+    void eventsAreReconciledById() {
+        when(employeeService.getAllEmployees()).thenReturn(List.of(employee("1")));
+        RecordingView view = new RecordingView(employeeService);
+        view.ids();
+
+        view.onEmployeeCreated(new EmployeeCreatedEvent(employee("1")));
+        view.onEmployeeDeleted(new EmployeeDeletedEvent(employee("3")));
+        view.onEmployeeCreated(new EmployeeCreatedEvent(employee("2")));
+        view.onEmployeeDeleted(new EmployeeDeletedEvent(employee("1")));
+
+        assertEquals(List.of("2"), view.ids());
+        assertEquals(List.of("1", "2", "-1"), view.changes);
+    }
+
+    @Test
+    void eventsBeforeFirstUseAreLeftToTheSeed() {
+        when(employeeService.getAllEmployees()).thenReturn(List.of(employee("1")));
+        RecordingView view = new RecordingView(employeeService);
+
+        view.onEmployeeCreated(new EmployeeCreatedEvent(employee("1")));
+
+        assertEquals(List.of("1"), view.ids());
+    }
+
+    @Test
+    void failedSeedIsRetriedOnNextUse() {
+        when(employeeService.getAllEmployees())
+                .thenThrow(new IllegalStateException("upstream down"))
+                .thenReturn(List.of(employee("1")));
+        RecordingView view = new RecordingView(employeeService);
+
+        assertThrows(IllegalStateException.class, view::ids);
+        assertEquals(List.of("1"), view.ids());
+    }
+
+    private static Employee employee(String id) {
+        Employee employee = new Employee();
+        employee.setId(id);
+        employee.setName("Employee " + id);
+        return employee;
+    }
+
+    /**
+     * Records every add ("id") and remove ("-id") applied to the view.
+     */
+    private static final class RecordingView extends IncrementalEmployeeView {
+        private final List<String> changes = new ArrayList<>();
+
+        RecordingView(EmployeeService employeeService) {
+            super(employeeService);
+        }
+
+        List<String> ids() {
+            return read(() -> changes.stream()
+                    .filter(change -> !change.startsWith("-") && !changes.contains("-" + change))
+                    .toList());
+        }
+
+        @Override
+        protected void add(Employee employee) {
+            changes.add(employee.getId());
+        }
+
+        @Override
+        protected void remove(Employee employee) {
+            changes.add("-" + employee.getId());
+        }
+
+        @Override
+        protected void seeded(int employees) {}
+    }
+}
@@ -0,0 +1,71 @@
+package com.reliaquest.api.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+
+class ReplicaConsistencyTest {
+    private static final List<String> REPLICAS = List.of("first", "second");
+
+    private final Map<String, String> etags = new HashMap<>(Map.of("first", "\"a\"", "second", "\"a\""));
+
+    @Test
+    void matchingEtagsVerifyTheShard() {
+        ReplicaConsistency consistency = new ReplicaConsistency(Runnable::run, etags::get, Duration.ZERO);
+
+        assertEquals(REPLICAS, consistency.readReplicas(REPLICAS));
+    }
+
+    @Test
+    void differingEtagsKeepReadsOnTheFirstReplica() {
+        etags.put("second", "\"b\"");
+        ReplicaConsistency consistency = new ReplicaConsistency(Runnable::run, etags::get, Duration.ZERO);
+
+        assertEquals(List.of("first"), consistency.readReplicas(REPLICAS));
+    }
+
+    @Test
+    void writeUnverifiesTheShard() {
+        ReplicaConsistency consistency = new ReplicaConsistency(Runnable::run, etags::get, Duration.ofHours(1));
+        assertEquals(REPLICAS, consistency.readReplicas(REPLICAS));
+
+        consistency.invalidate(REPLICAS);
+
+        assertEquals(List.of("first"), consistency.readReplicas(REPLICAS));
+    }
+
+    @Test
+    void matchingEtagsReverifyAfterWrite() {
+        ReplicaConsistency consistency = new ReplicaConsistency(Runnable::run, etags::get, Duration.ZERO);
+        consistency.readReplicas(REPLICAS);
+        consistency.invalidate(REPLICAS);
+        etags.put("first", "\"b\"");
+
+        assertEquals(List.of("first"), consistency.readReplicas(REPLICAS));
+
+        etags.put("second", "\"b\"");
+
+        assertEquals(REPLICAS, consistency.readReplicas(REPLICAS));
+    }
+
+    @Test
+    void writeDuringVerificationLeavesTheShardUnverified() {
+        ReplicaConsistency[] consistency = new ReplicaConsistency[1];
+        consistency[0] = new ReplicaConsistency(
+                Runnable::run,
+                replica -> {
+                    if (replica.equals("second")) {
+                        consistency[0].invalidate(REPLICAS);
+                    }
+                    return etags.get(replica);
+                },
+                Duration.ofHours(1));
+        consistency[0].readReplicas(REPLICAS);
+
+        assertEquals(List.of("first"), consistency[0].readReplicas(REPLICAS));
+    }
+}
@@ -0,0 +1,89 @@
+package com.reliaquest.api.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import com.reliaquest.api.model.Employee;
+import com.reliaquest.api.model.EmployeeCreatedEvent;
+import com.reliaquest.api.model.EmployeeSnapshot;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.boot.actuate.info.Info;
+
+@ExtendWith(MockitoExtension.class)
+class WarmStartCacheTest {
+
+    @Mock
+    private EmployeeService employeeService;
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void contributesFootprintOfTheLocalCopy() {
+        WarmStartCache cache = newCache();
+        Info.Builder empty = new Info.Builder();
+        cache.contribute(empty);
+        assertTrue(empty.build().getDetails().isEmpty());
+
+        when(employeeService.revalidate(null))
+                .thenReturn(new EmployeeSnapshot(
+                        List.of(new EmployeeSnapshot.Shard("\"a\"", List.of(employee("1"), employee("2"))))));
+        cache.refresh();
+        Info.Builder builder = new Info.Builder();
+        cache.contribute(builder);
+
+        Map<?, ?> footprint = (Map<?, ?>) builder.build().getDetails().get("employeeSnapshot");
+        assertEquals(2, footprint.get("employees"));
+        assertTrue((Long) footprint.get("totalBytes") > 0);
+    }
+
+    @Test
+    void refreshKeepsShardsChangedLocallyMeanwhileAndTakesTheRest() throws Exception {
+        WarmStartCache cache = newCache();
+        EmployeeSnapshot.Shard first = new EmployeeSnapshot.Shard("\"a\"", List.of(employee("1")));
+        EmployeeSnapshot.Shard second = new EmployeeSnapshot.Shard("\"b\"", List.of(employee("2")));
+        EmployeeSnapshot known = new EmployeeSnapshot(List.of(first, second));
+        when(employeeService.revalidate(null)).thenReturn(known);
+        cache.refresh();
+
+        EmployeeSnapshot.Shard refreshedFirst = new EmployeeSnapshot.Shard("\"c\"", List.of(employee("3")));
+        EmployeeSnapshot.Shard refreshedSecond = new EmployeeSnapshot.Shard("\"d\"", List.of(employee("4")));
+        when(employeeService.revalidate(known)).thenAnswer(invocation -> {
+            // Ids that are not UUIDs belong to shard 0.
+            cache.onEmployeeCreated(new EmployeeCreatedEvent(employee("5")));
+            return new EmployeeSnapshot(List.of(refreshedFirst, refreshedSecond));
+        });
+        cache.refresh();
+
+        assertEquals(List.of("1", "5", "4"), ids(cache));
+    }
+
+    @SuppressWarnings("unchecked")
+    private static List<String> ids(WarmStartCache cache) throws Exception {
+        java.lang.reflect.Field field = WarmStartCache.class.getDeclaredField("employees");
+        field.setAccessible(true);
+        return ((List<Employee>) field.get(cache)).stream().map(Employee::getId).toList();
+    }
+
+    private WarmStartCache newCache() {
+        return new WarmStartCache(employeeService, directory.resolve("snapshot.bin"), Duration.ofHours(1));
+    }
+
+    private static Employee employee(String id) {
+        Employee employee = new Employee();
+        employee.setId(id);
+        employee.setName("Employee " + id);
+        employee.setSalary(100_000);
+        employee.setAge(40);
+        employee.setTitle("Engineer");
+        return employee;
+    }
+}
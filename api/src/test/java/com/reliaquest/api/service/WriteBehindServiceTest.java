@@ -0,0 +1,218 @@
+package com.reliaquest.api.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reliaquest.api.model.CreateEmployeeInput;
+import com.reliaquest.api.model.Employee;
+import com.reliaquest.api.model.WriteStatus;
+import com.reliaquest.api.util.WriteJournal;
+import java.nio.file.Path;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.ResourceAccessException;
+
+@ExtendWith(MockitoExtension.class)
+class WriteBehindServiceTest {
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Mock
+    private EmployeeService employeeService;
+
+    @TempDir
+    Path directory;
+
+    private WriteBehindService writeBehind;
+
+    @AfterEach
+    void tearDown() throws Exception {
+        if (writeBehind != null) {
+            writeBehind.stop();
+        }
+    }
+
+    @Test
+    void deleteOfQueuedCreateCoalescesBoth() throws Exception {
+        writeBehind = newService();
+        WriteStatus create = writeBehind.enqueueCreate(input()).orElseThrow();
+        WriteStatus delete = writeBehind.enqueueDelete(create.trackingId()).orElseThrow();
+
+        assertEquals(WriteStatus.State.COMPLETED, delete.state());
+        assertEquals(
+                WriteStatus.State.COALESCED,
+                writeBehind.getStatus(create.trackingId()).orElseThrow().state());
+
+        writeBehind.start();
+        writeBehind.stop();
+        writeBehind = null;
+        verifyNoInteractions(employeeService);
+        try (WriteJournal journal = new WriteJournal(journalPath(), objectMapper)) {
+            assertTrue(journal.replay().isEmpty());
+        }
+    }
+
+    @Test
+    void repeatedDeletesCollapse() throws Exception {
+        CountDownLatch blockerStarted = new CountDownLatch(1);
+        CountDownLatch releaseBlocker = new CountDownLatch(1);
+        when(employeeService.getEmployeeById("employee-0")).thenAnswer(invocation -> {
+            blockerStarted.countDown();
+            releaseBlocker.await();
+            return employee("employee-0");
+        });
+        when(employeeService.getEmployeeById("employee-1")).thenReturn(employee("employee-1"));
+        writeBehind = newService();
+        writeBehind.start();
+        writeBehind.enqueueDelete("employee-0").orElseThrow();
+        assertTrue(blockerStarted.await(5, TimeUnit.SECONDS));
+
+        WriteStatus first = writeBehind.enqueueDelete("employee-1").orElseThrow();
+        WriteStatus second = writeBehind.enqueueDelete("employee-1").orElseThrow();
+        releaseBlocker.countDown();
+
+        assertEquals(first.trackingId(), second.trackingId());
+        assertEquals(WriteStatus.State.COMPLETED, awaitDone(first.trackingId()).state());
+        verify(employeeService, times(1)).getEmployeeById("employee-1");
+    }
+
+    @Test
+    void unexpectedErrorFailsTheWriteAndLaterWritesComplete() throws Exception {
+        when(employeeService.createEmployee(any(), anyString()))
+                .thenThrow(new IllegalStateException("bug"))
+                .thenReturn(employee("employee-1"));
+        writeBehind = newService();
+        writeBehind.start();
+
+        WriteStatus broken = writeBehind.enqueueCreate(input()).orElseThrow();
+        WriteStatus failed = awaitDone(broken.trackingId());
+        WriteStatus later = writeBehind.enqueueCreate(input()).orElseThrow();
+
+        assertEquals(WriteStatus.State.FAILED, failed.state());
+        assertTrue(failed.error().contains("bug"));
+        assertEquals(WriteStatus.State.COMPLETED, awaitDone(later.trackingId()).state());
+    }
+
+    @Test
+    void createIsSentWithTrackingIdAsIdempotencyKey() throws Exception {
+        when(employeeService.createEmployee(any(), anyString())).thenReturn(employee("employee-1"));
+        writeBehind = newService();
+        writeBehind.start();
+
+        WriteStatus create = writeBehind.enqueueCreate(input()).orElseThrow();
+        WriteStatus done = awaitDone(create.trackingId());
+
+        assertEquals(WriteStatus.State.COMPLETED, done.state());
+        assertEquals("employee-1", done.employee().getId());
+        verify(employeeService).createEmployee(any(), eq(create.trackingId()));
+    }
+
+    @Test
+    void throttledWriteIsRetried() throws Exception {
+        when(employeeService.createEmployee(any(), anyString()))
+                .thenThrow(HttpClientErrorException.create(
+                        HttpStatus.TOO_MANY_REQUESTS, "Too Many Requests", HttpHeaders.EMPTY, null, null))
+                .thenReturn(employee("employee-1"));
+        writeBehind = newService();
+        writeBehind.start();
+
+        WriteStatus create = writeBehind.enqueueCreate(input()).orElseThrow();
+
+        assertEquals(WriteStatus.State.COMPLETED, awaitDone(create.trackingId()).state());
+        verify(employeeService, times(2)).createEmployee(any(), eq(create.trackingId()));
+    }
+
+    @Test
+    void clientErrorFailsWithoutRetry() throws Exception {
+        when(employeeService.createEmployee(any(), anyString()))
+                .thenThrow(HttpClientErrorException.create(
+                        HttpStatus.BAD_REQUEST, "Bad Request", HttpHeaders.EMPTY, null, null));
+        writeBehind = newService();
+        writeBehind.start();
+
+        WriteStatus create = writeBehind.enqueueCreate(input()).orElseThrow();
+        WriteStatus done = awaitDone(create.trackingId());
+
+        assertEquals(WriteStatus.State.FAILED, done.state());
+        assertEquals("Bad Request", done.error());
+        verify(employeeService, times(1)).createEmployee(any(), anyString());
+    }
+
+    @Test
+    void replayedDeleteOfCompletedCreateFindsEmployee() throws Exception {
+        CountDownLatch createStarted = new CountDownLatch(1);
+        CountDownLatch releaseCreate = new CountDownLatch(1);
+        when(employeeService.createEmployee(any(), anyString())).thenAnswer(invocation -> {
+            createStarted.countDown();
+            releaseCreate.await();
+            return employee("employee-1");
+        });
+        lenient()
+                .when(employeeService.getEmployeeById("employee-1"))
+                .thenThrow(new ResourceAccessException("Connection refused"));
+        writeBehind = newService();
+        writeBehind.start();
+
+        WriteStatus create = writeBehind.enqueueCreate(input()).orElseThrow();
+        assertTrue(createStarted.await(5, TimeUnit.SECONDS));
+        WriteStatus delete = writeBehind.enqueueDelete(create.trackingId()).orElseThrow();
+        assertEquals(WriteStatus.State.PENDING, delete.state());
+        releaseCreate.countDown();
+        assertEquals(WriteStatus.State.COMPLETED, awaitDone(create.trackingId()).state());
+        writeBehind.stop();
+
+        reset(employeeService);
+        when(employeeService.getEmployeeById("employee-1")).thenReturn(employee("employee-1"));
+        writeBehind = newService();
+        writeBehind.start();
+
+        assertEquals(WriteStatus.State.COMPLETED, awaitDone(delete.trackingId()).state());
+        verify(employeeService).deleteEmployee(argThat(employee -> "employee-1".equals(employee.getId())));
+    }
+
+    private WriteBehindService newService() throws Exception {
+        return new WriteBehindService(employeeService, objectMapper, journalPath(), 100, 10);
+    }
+
+    private Path journalPath() {
+        return directory.resolve("writes.journal");
+    }
+
+    private WriteStatus awaitDone(String trackingId) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (System.nanoTime() < deadline) {
+            WriteStatus status = writeBehind.getStatus(trackingId).orElseThrow();
+            if (status.isDone()) {
+                return status;
+            }
+            Thread.sleep(10);
+        }
+        return fail("Write " + trackingId + " did not finish");
+    }
+
+    private static CreateEmployeeInput input() {
+        CreateEmployeeInput input = new CreateEmployeeInput();
+        input.setName("Jane Doe");
+        input.setSalary(50_000);
+        input.setAge(30);
+        input.setTitle("Developer");
+        return input;
+    }
+
+    private static Employee employee(String id) {
+        Employee employee = new Employee();
+        employee.setId(id);
+        employee.setName("Jane Doe");
+        return employee;
+    }
+}
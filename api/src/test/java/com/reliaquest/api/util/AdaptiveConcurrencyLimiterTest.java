@@ -0,0 +1,77 @@
+package com.reliaquest.api.util;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+
+class AdaptiveConcurrencyLimiterTest {
+
+    @Test
+    void rejectsBeyondLimitAfterDeadline() throws InterruptedException {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(2, 1, 10, 5);
+        assertTrue(limiter.acquire(0, TimeUnit.MILLISECONDS));
+        assertTrue(limiter.acquire(0, TimeUnit.MILLISECONDS));
+
+        assertFalse(limiter.acquire(10, TimeUnit.MILLISECONDS));
+        assertEquals(1, limiter.rejected());
+
+        limiter.release();
+        assertTrue(limiter.acquire(0, TimeUnit.MILLISECONDS));
+    }
+
+    @Test
+    void slotIsHeldByTheAcquiringThreadOnly() throws Exception {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(2, 1, 10, 0);
+        assertFalse(limiter.isHeldByCurrentThread());
+
+        assertTrue(limiter.acquire(0, TimeUnit.MILLISECONDS));
+
+        assertTrue(limiter.isHeldByCurrentThread());
+        assertFalse(
+                CompletableFuture.supplyAsync(limiter::isHeldByCurrentThread).get());
+        limiter.release();
+        assertFalse(limiter.isHeldByCurrentThread());
+    }
+
+    @Test
+    void growsWhileLatencyIsStable() throws InterruptedException {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(10, 1, 100, 0);
+        for (int i = 0; i < 10; i++) {
+            assertTrue(limiter.acquire(0, TimeUnit.MILLISECONDS));
+        }
+        for (int i = 0; i < 50; i++) {
+            limiter.onSample(TimeUnit.MILLISECONDS.toNanos(10));
+        }
+
+        assertTrue(limiter.limit() > 10);
+    }
+
+    @Test
+    void shrinksWhenLatencyRises() throws InterruptedException {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(50, 1, 100, 0);
+        for (int i = 0; i < 50; i++) {
+            assertTrue(limiter.acquire(0, TimeUnit.MILLISECONDS));
+        }
+        for (int i = 0; i < 100; i++) {
+            limiter.onSample(TimeUnit.MILLISECONDS.toNanos(10));
+        }
+        int steady = limiter.limit();
+        for (int i = 0; i < 100; i++) {
+            limiter.onSample(TimeUnit.MILLISECONDS.toNanos(100));
+        }
+
+        assertTrue(limiter.limit() < steady / 2);
+    }
+
+    @Test
+    void dropsCutTheLimit() {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(20, 4, 100, 0);
+        for (int i = 0; i < 30; i++) {
+            limiter.onDrop();
+        }
+
+        assertEquals(4, limiter.limit());
+    }
+}
@@ -0,0 +1,49 @@
+package com.reliaquest.api.util;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.Test;
+
+class BkTreeTest {
+
+    @Test
+    void findsTermsWithinDistance() {
+        BkTree<Integer> tree = new BkTree<>();
+        tree.add("jonathan", 1);
+        tree.add("johnathan", 2);
+        tree.add("smith", 3);
+        tree.add("smyth", 4);
+        tree.add("schmidt", 5);
+
+        Set<String> terms =
+                tree.search("smth", 1).stream().map(BkTree.Match::term).collect(Collectors.toSet());
+
+        assertEquals(Set.of("smith", "smyth"), terms);
+    }
+
+    @Test
+    void removedTermsAreNotReturned() {
+        BkTree<Integer> tree = new BkTree<>();
+        tree.add("smith", 1);
+        tree.add("smith", 2);
+        tree.add("smyth", 3);
+
+        tree.remove("smith", 1);
+        tree.remove("smyth", 3);
+
+        List<BkTree.Match<Integer>> matches = tree.search("smith", 1);
+        assertEquals(1, matches.size());
+        assertEquals(Set.of(2), matches.get(0).values());
+        assertEquals(1, tree.size());
+    }
+
+    @Test
+    void boundedDistanceStopsEarly() {
+        assertEquals(3, Levenshtein.distance("kitten", "sitting", 5));
+        assertEquals(2, Levenshtein.distance("kitten", "sitting", 1));
+        assertEquals(0, Levenshtein.distance("same", "same", 0));
+    }
+}
@@ -0,0 +1,45 @@
+package com.reliaquest.api.util;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class CompletionTrieTest {
+
+    @Test
+    void completesByWeight() {
+        CompletionTrie trie = new CompletionTrie(5);
+        trie.adjust("john", 3);
+        trie.adjust("johnson", 5);
+        trie.adjust("joan", 1);
+        trie.adjust("mary", 4);
+
+        assertEquals(
+                List.of(new CompletionTrie.Completion("johnson", 5), new CompletionTrie.Completion("john", 3)),
+                trie.complete("joh", 5));
+        assertEquals(3, trie.complete("jo", 5).size());
+        assertTrue(trie.complete("x", 5).isEmpty());
+    }
+
+    @Test
+    void prefixEndingInsideEdge() {
+        CompletionTrie trie = new CompletionTrie(5);
+        trie.adjust("alexander", 1);
+
+        assertEquals("alexander", trie.complete("alex", 5).get(0).term());
+        assertTrue(trie.complete("alx", 5).isEmpty());
+    }
+
+    @Test
+    void removalPatchesCachedCompletions() {
+        CompletionTrie trie = new CompletionTrie(1);
+        trie.adjust("john", 2);
+        trie.adjust("johnson", 1);
+
+        trie.adjust("john", -2);
+
+        assertEquals(List.of(new CompletionTrie.Completion("johnson", 1)), trie.complete("jo", 1));
+        assertEquals(1, trie.size());
+    }
+}
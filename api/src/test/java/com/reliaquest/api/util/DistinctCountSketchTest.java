@@ -0,0 +1,23 @@
+package com.reliaquest.api.util;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.Test;
+
+class DistinctCountSketchTest {
+    @Test
+    void distinctCountSupportsRemoval() {
+        DistinctCountSketch sketch = new DistinctCountSketch();
+        for (int i = 0; i < 5_000; i++) {
+            sketch.add("title-" + i % 500);
+        }
+        assertEquals(500, sketch.estimate(), 500 * 0.1);
+
+        for (int i = 0; i < 5_000; i++) {
+            if (i % 500 < 250) {
+                sketch.remove("title-" + i % 500);
+            }
+        }
+        assertEquals(250, sketch.estimate(), 250 * 0.1);
+    }
+}
@@ -0,0 +1,54 @@
+package com.reliaquest.api.util;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.reliaquest.api.model.Employee;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class EmployeeExportWriterTest {
+
+    @Test
+    void writesNdjsonWithSelectedColumns() throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (EmployeeExportWriter writer = new EmployeeExportWriter(
+                out,
+                EmployeeExportWriter.Format.NDJSON,
+                EmployeeExportWriter.Column.parse(List.of("name", "salary")))) {
+            writer.write(List.of(employee("Jane Doe", 100)));
+            writer.write(List.of(employee("John Roe", 200)));
+        }
+
+        assertEquals(
+                "{\"name\":\"Jane Doe\",\"salary\":100}\n{\"name\":\"John Roe\",\"salary\":200}\n",
+                out.toString(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void writesCsvWithHeaderAndQuoting() throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (EmployeeExportWriter writer = new EmployeeExportWriter(
+                out, EmployeeExportWriter.Format.CSV, EmployeeExportWriter.Column.parse(List.of("name", "salary")))) {
+            writer.write(List.of(employee("Doe, \"Jane\"", 100)));
+        }
+
+        assertEquals("name,salary\r\n\"Doe, \"\"Jane\"\"\",100\r\n", out.toString(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void rejectsUnknownColumnsAndFormats() {
+        assertThrows(IllegalArgumentException.class, () -> EmployeeExportWriter.Column.parse(List.of("ssn")));
+        assertThrows(IllegalArgumentException.class, () -> EmployeeExportWriter.Format.parse("xml"));
+        assertEquals(6, EmployeeExportWriter.Column.parse(null).size());
+    }
+
+    private static Employee employee(String name, int salary) {
+        Employee employee = new Employee();
+        employee.setName(name);
+        employee.setSalary(salary);
+        return employee;
+    }
+}
@@ -0,0 +1,92 @@
+package com.reliaquest.api.util;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.reliaquest.api.model.Employee;
+import com.reliaquest.api.model.EmployeeSnapshot;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class EmployeeSnapshotCodecTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void roundTripsShardsAndRows() throws IOException {
+        Employee first = employee("0b7c1f0e-5a56-4c1a-9a65-5f8a3b1f6f10", "Jane Doe", "Engineer");
+        Employee second = employee("not-a-uuid", "John Roe", "Engineer");
+        Employee third = employee("6e7a0c83-4b53-4c0e-8f0c-2a1d3e4f5a6b", "Ann Poe", null);
+        EmployeeSnapshot snapshot = new EmployeeSnapshot(List.of(
+                new EmployeeSnapshot.Shard("\"a-1\"", List.of(first, second)),
+                new EmployeeSnapshot.Shard(null, List.of(third))));
+        Path path = directory.resolve("snapshot.bin");
+
+        EmployeeSnapshotCodec.write(snapshot, path);
+        EmployeeSnapshot read = EmployeeSnapshotCodec.read(path);
+
+        assertEquals("\"a-1\"", read.shards().get(0).etag());
+        assertNull(read.shards().get(1).etag());
+        assertEquals(List.of(first, second, third), read.employees());
+        assertSame(read.employees().get(0).getTitle(), read.employees().get(1).getTitle());
+    }
+
+    @Test
+    void rejectsTruncatedFile() throws IOException {
+        Path path = directory.resolve("snapshot.bin");
+        Employee employee = employee("x", "Jane", "CEO");
+        EmployeeSnapshotCodec.write(
+                new EmployeeSnapshot(List.of(new EmployeeSnapshot.Shard("\"a-1\"", List.of(employee)))), path);
+        byte[] bytes = Files.readAllBytes(path);
+        Files.write(path, Arrays.copyOf(bytes, bytes.length - 3));
+
+        assertThrows(IOException.class, () -> EmployeeSnapshotCodec.read(path));
+    }
+
+    @Test
+    void rejectsCountLargerThanFile() throws IOException {
+        Path path = directory.resolve("snapshot.bin");
+        Files.write(
+                path,
+                ByteBuffer.allocate(12)
+                        .putInt(0x454d5053)
+                        .putInt(1)
+                        .putInt(0x7ff00000)
+                        .array());
+
+        IOException error = assertThrows(IOException.class, () -> EmployeeSnapshotCodec.read(path));
+        assertTrue(error.getCause().getMessage().contains("2146435072"));
+    }
+
+    @Test
+    void rejectsStringLongerThanFile() throws IOException {
+        Path path = directory.resolve("snapshot.bin");
+        Files.write(
+                path,
+                ByteBuffer.allocate(16)
+                        .putInt(0x454d5053)
+                        .putInt(1)
+                        .putInt(1)
+                        .putInt(Integer.MAX_VALUE)
+                        .array());
+
+        assertThrows(IOException.class, () -> EmployeeSnapshotCodec.read(path));
+    }
+
+    private static Employee employee(String id, String name, String title) {
+        Employee employee = new Employee();
+        employee.setId(id);
+        employee.setName(name);
+        employee.setSalary(100_000);
+        employee.setAge(40);
+        employee.setTitle(title);
+        employee.setEmail(name.toLowerCase().replace(' ', '.') + "@company.com");
+        return employee;
+    }
+}
@@ -0,0 +1,40 @@
+package com.reliaquest.api.util;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.reliaquest.api.model.Employee;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+
+class EmployeeUtilsTest {
+
+    @Test
+    void mergeTopKEarnersAcrossShards() {
+        List<List<Employee>> shards = List.of(
+                List.of(employee("A", 900), employee("B", 500)),
+                List.of(employee("C", 800), employee("D", 700), employee("E", 100)),
+                List.of());
+
+        List<Employee> top = EmployeeUtils.mergeTopKEarners(shards, 3);
+
+        assertEquals(List.of("A", "C", "D"), top.stream().map(Employee::getName).toList());
+    }
+
+    @Test
+    void shardOfIsStableAndInRange() {
+        UUID id = UUID.randomUUID();
+        int shard = ShardPartitioner.shardOf(id.toString(), 4);
+
+        assertTrue(shard >= 0 && shard < 4);
+        assertEquals(shard, ShardPartitioner.shardOf(id, 4));
+        assertEquals(0, ShardPartitioner.shardOf("not-a-uuid", 4));
+    }
+
+    private static Employee employee(String name, int salary) {
+        Employee employee = new Employee();
+        employee.setName(name);
+        employee.setSalary(salary);
+        return employee;
+    }
+}
@@ -0,0 +1,32 @@
+package com.reliaquest.api.util;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.Test;
+
+class LatencyWindowTest {
+
+    @Test
+    void reportsInitialValueUntilFilled() {
+        LatencyWindow window = new LatencyWindow(64, 0.95, 50);
+        for (int i = 0; i < 63; i++) {
+            window.record(1);
+        }
+
+        assertEquals(50, window.percentileNanos());
+    }
+
+    @Test
+    void tracksPercentileOfRecentSamples() {
+        LatencyWindow window = new LatencyWindow(64, 0.95, 50);
+        for (int i = 1; i <= 64; i++) {
+            window.record(i);
+        }
+        assertEquals(61, window.percentileNanos());
+
+        for (int i = 0; i < 64; i++) {
+            window.record(1_000);
+        }
+        assertEquals(1_000, window.percentileNanos());
+    }
+}
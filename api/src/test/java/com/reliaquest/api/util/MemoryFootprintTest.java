@@ -0,0 +1,60 @@
+package com.reliaquest.api.util;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reliaquest.api.model.Employee;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class MemoryFootprintTest {
+    private static final String[] TITLES = {"Developer", "Designer", "Accountant", "Manager", "Analyst"};
+
+    @Test
+    void deserializationInternsTitles() throws Exception {
+        ObjectMapper objectMapper = new ObjectMapper();
+        Employee first = objectMapper.readValue("{\"employee_title\":\"Developer\"}", Employee.class);
+        Employee second = objectMapper.readValue("{\"employee_title\":\"Developer\"}", Employee.class);
+
+        assertSame(first.getTitle(), second.getTitle());
+    }
+
+    @Test
+    void internedDatasetIsSmaller() {
+        StringDictionary dictionary = new StringDictionary(16);
+        List<Employee> duplicated = new ArrayList<>();
+        List<Employee> interned = new ArrayList<>();
+        for (int i = 0; i < 10_000; i++) {
+            String title = new String(TITLES[i % TITLES.length]);
+            duplicated.add(employee(i, title));
+            interned.add(employee(i, dictionary.intern(title)));
+        }
+
+        MemoryFootprint.Report duplicatedReport = MemoryFootprint.of(duplicated);
+        MemoryFootprint.Report internedReport = MemoryFootprint.of(interned);
+
+        assertEquals(TITLES.length, dictionary.size());
+        assertEquals(10_000 + TITLES.length, internedReport.distinctStrings());
+        assertTrue(internedReport.totalBytes() < duplicatedReport.totalBytes());
+    }
+
+    @Test
+    void fullDictionaryReturnsValueUnchanged() {
+        StringDictionary dictionary = new StringDictionary(1);
+        dictionary.intern("a");
+        String value = new String("b");
+
+        assertSame(value, dictionary.intern(value));
+        assertEquals(1, dictionary.size());
+    }
+
+    private static Employee employee(int i, String title) {
+        Employee employee = new Employee();
+        employee.setName("Employee " + i);
+        employee.setSalary(30_000 + i);
+        employee.setAge(20 + i % 40);
+        employee.setTitle(title);
+        return employee;
+    }
+}
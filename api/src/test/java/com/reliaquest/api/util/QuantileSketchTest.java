@@ -0,0 +1,35 @@
+package com.reliaquest.api.util;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.Test;
+
+class QuantileSketchTest {
+
+    @Test
+    void quantilesWithinRelativeAccuracy() {
+        QuantileSketch sketch = new QuantileSketch(0.01);
+        for (int salary = 1; salary <= 100_000; salary++) {
+            sketch.add(salary);
+        }
+
+        assertEquals(50_000, sketch.quantile(0.5), 50_000 * 0.01);
+        assertEquals(99_000, sketch.quantile(0.99), 99_000 * 0.01);
+        assertEquals(100_000, sketch.count());
+    }
+
+    @Test
+    void removalRestoresDistribution() {
+        QuantileSketch sketch = new QuantileSketch(0.01);
+        for (int salary = 1; salary <= 1_000; salary++) {
+            sketch.add(salary);
+            sketch.add(salary * 1_000);
+        }
+        for (int salary = 1; salary <= 1_000; salary++) {
+            sketch.remove(salary * 1_000);
+        }
+
+        assertEquals(1_000, sketch.quantile(1), 1_000 * 0.01);
+        assertEquals(1_000, sketch.count());
+    }
+}
@@ -0,0 +1,65 @@
+package com.reliaquest.api.util;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.reliaquest.api.model.Employee;
+import com.reliaquest.api.model.TitleAggregate;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class TitleAggregateIndexTest {
+
+    @Test
+    void removingExtremesUpdatesMinAndMax() {
+        TitleAggregateIndex index = new TitleAggregateIndex();
+        Employee low = employee("Developer", 50_000, 20);
+        Employee high = employee("Developer", 150_000, 40);
+        index.add(low);
+        index.add(employee("Developer", 100_000, 30));
+        index.add(high);
+
+        index.remove(high);
+        index.remove(low);
+
+        TitleAggregate aggregate = index.get("Developer").orElseThrow();
+        assertEquals(1, aggregate.headcount());
+        assertEquals(100_000, aggregate.minSalary());
+        assertEquals(100_000, aggregate.maxSalary());
+        assertEquals(30.0, aggregate.averageAge());
+    }
+
+    @Test
+    void topByAverageSalary() {
+        TitleAggregateIndex index = new TitleAggregateIndex();
+        index.add(employee("Developer", 100_000, 30));
+        index.add(employee("Manager", 200_000, 45));
+        index.add(employee("Manager", 100_000, 35));
+        index.add(employee("Intern", 30_000, 20));
+
+        List<TitleAggregate> top = index.getTopByAverageSalary(2);
+
+        assertEquals(
+                List.of("Manager", "Developer"),
+                top.stream().map(TitleAggregate::title).toList());
+        assertEquals(150_000.0, top.get(0).averageSalary());
+    }
+
+    @Test
+    void emptyTitleIsDropped() {
+        TitleAggregateIndex index = new TitleAggregateIndex();
+        Employee employee = employee("Developer", 100_000, 30);
+        index.add(employee);
+        index.remove(employee);
+
+        assertTrue(index.get("Developer").isEmpty());
+        assertEquals(0, index.size());
+    }
+
+    private static Employee employee(String title, int salary, int age) {
+        Employee employee = new Employee();
+        employee.setTitle(title);
+        employee.setSalary(salary);
+        employee.setAge(age);
+        return employee;
+    }
+}
@@ -0,0 +1,46 @@
+package com.reliaquest.api.util;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.reliaquest.api.model.TraceRecord;
+import java.time.Instant;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class TraceBufferTest {
+
+    @Test
+    void roundsCapacityUpToPowerOfTwo() {
+        assertEquals(8, new TraceBuffer(5).capacity());
+        assertEquals(1024, new TraceBuffer(1024).capacity());
+    }
+
+    @Test
+    void keepsMostRecentTracesNewestFirst() {
+        TraceBuffer buffer = new TraceBuffer(4);
+        for (int i = 0; i < 6; i++) {
+            buffer.add(trace("t" + i));
+        }
+
+        assertEquals(
+                List.of("t5", "t4", "t3", "t2"),
+                buffer.recent(10).stream().map(TraceRecord::traceId).toList());
+        assertEquals(
+                List.of("t5", "t4"),
+                buffer.recent(2).stream().map(TraceRecord::traceId).toList());
+    }
+
+    @Test
+    void findsTraceById() {
+        TraceBuffer buffer = new TraceBuffer(4);
+        buffer.add(trace("a"));
+        buffer.add(trace("b"));
+
+        assertEquals("b", buffer.find("b").orElseThrow().traceId());
+        assertTrue(buffer.find("missing").isEmpty());
+    }
+
+    private static TraceRecord trace(String traceId) {
+        return new TraceRecord(traceId, "GET /api/v1/employee", Instant.now(), 1, 200, List.of());
+    }
+}
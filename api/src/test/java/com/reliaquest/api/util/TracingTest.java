@@ -0,0 +1,44 @@
+package com.reliaquest.api.util;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.reliaquest.api.model.TraceRecord;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class TracingTest {
+
+    @Test
+    void spansAreNoOpWithoutTrace() {
+        try (Tracing.Scope ignored = Tracing.span("stage")) {
+            assertNull(Tracing.currentTraceId());
+        }
+        Runnable task = () -> {};
+        assertSame(task, Tracing.propagate(task));
+    }
+
+    @Test
+    void recordsSpansAcrossThreads() throws Exception {
+        Tracing.ActiveTrace trace = Tracing.begin("abc", "GET /api/v1/employee");
+        try (Tracing.Scope ignored = Tracing.span("local")) {
+            assertEquals("abc", Tracing.currentTraceId());
+        }
+        Thread worker = new Thread(Tracing.propagate(() -> {
+            try (Tracing.Scope ignored = Tracing.span("remote")) {
+                assertEquals("abc", Tracing.currentTraceId());
+            }
+        }));
+        worker.start();
+        worker.join();
+
+        TraceRecord record = trace.finish(200);
+
+        assertNull(Tracing.currentTraceId());
+        assertEquals("abc", record.traceId());
+        assertEquals(200, record.status());
+        assertEquals(
+                List.of("local", "remote"),
+                record.spans().stream().map(TraceRecord.Span::name).toList());
+        assertEquals(worker.getName(), record.spans().get(1).thread());
+    }
+}
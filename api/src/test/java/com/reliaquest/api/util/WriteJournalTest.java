@@ -0,0 +1,92 @@
+package com.reliaquest.api.util;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reliaquest.api.model.CreateEmployeeInput;
+import com.reliaquest.api.model.WriteOperation;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class WriteJournalTest {
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void replaysOnlyIncompleteOperationsInOrder() throws IOException {
+        Path path = directory.resolve("writes.journal");
+        CreateEmployeeInput input = new CreateEmployeeInput();
+        input.setName("Jane Doe");
+        try (WriteJournal journal = new WriteJournal(path, objectMapper)) {
+            journal.append(WriteOperation.create("a", input));
+            journal.append(WriteOperation.delete("b", "employee-1"));
+            journal.append(WriteOperation.deleteCreated("c", "a"));
+            journal.complete(List.of("b"));
+        }
+
+        try (WriteJournal journal = new WriteJournal(path, objectMapper)) {
+            List<WriteOperation> pending = journal.replay();
+
+            assertEquals(
+                    List.of("a", "c"),
+                    pending.stream().map(WriteOperation::trackingId).toList());
+            assertEquals("Jane Doe", pending.get(0).input().getName());
+            assertEquals("a", pending.get(1).createTrackingId());
+        }
+        assertEquals(2, Files.readAllLines(path).size());
+    }
+
+    @Test
+    void resolvesDeleteOfCompletedCreate() throws IOException {
+        Path path = directory.resolve("writes.journal");
+        try (WriteJournal journal = new WriteJournal(path, objectMapper)) {
+            journal.append(WriteOperation.create("a", new CreateEmployeeInput()));
+            journal.append(WriteOperation.deleteCreated("b", "a"));
+            journal.complete(Map.of("a", "employee-1"));
+        }
+
+        for (int restart = 0; restart < 2; restart++) {
+            try (WriteJournal journal = new WriteJournal(path, objectMapper)) {
+                List<WriteOperation> pending = journal.replay();
+
+                assertEquals(
+                        List.of("b"),
+                        pending.stream().map(WriteOperation::trackingId).toList());
+                assertEquals("employee-1", pending.get(0).employeeId());
+                assertEquals("a", pending.get(0).createTrackingId());
+            }
+        }
+    }
+
+    @Test
+    void skipsTornTrailingRecord() throws IOException {
+        Path path = directory.resolve("writes.journal");
+        try (WriteJournal journal = new WriteJournal(path, objectMapper)) {
+            journal.append(WriteOperation.delete("a", "employee-1"));
+        }
+        Files.writeString(path, "+{\"trackingId\":\"b\",\"ty", StandardCharsets.UTF_8, StandardOpenOption.APPEND);
+
+        try (WriteJournal journal = new WriteJournal(path, objectMapper)) {
+            List<WriteOperation> pending = journal.replay();
+            journal.append(WriteOperation.delete("c", "employee-2"));
+
+            assertEquals(
+                    List.of("a"),
+                    pending.stream().map(WriteOperation::trackingId).toList());
+        }
+        try (WriteJournal journal = new WriteJournal(path, objectMapper)) {
+            assertEquals(
+                    List.of("a", "c"),
+                    journal.replay().stream().map(WriteOperation::trackingId).toList());
+        }
+    }
+}
@@ -0,0 +1,93 @@
+package com.reliaquest.server.config;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/*
+ * Binds the mock.faults section of application.yml. Routes are matched in declaration order and the first match wins;
+ * every profile of the matching route is applied to the request in declaration order.
+ */
+@Data
+@ConfigurationProperties(prefix = "mock.faults")
+public class FaultInjectionProperties {
+
+    private boolean enabled = false;
+
+    /*
+     * When set, every injector (and the default random request limit) derives its randomness from this seed so that
+     * the n-th request on a route always receives the same fault, regardless of thread interleaving.
+     */
+    private Long seed;
+
+    private List<Route> routes = new ArrayList<>();
+
+    @Data
+    public static class Route {
+
+        private String path = "/**";
+
+        /*
+         * HTTP method to match, or any method when blank.
+         */
+        private String method;
+
+        private List<Profile> profiles = new ArrayList<>();
+    }
+
+    @Data
+    public static class Profile {
+
+        private Type type;
+
+        /*
+         * Status written when a request is rejected; defaults to 429 for throttling profiles and 503 for bursts.
+         */
+        private Integer status;
+
+        // FIXED_RATE
+        private double rate = 0.1;
+
+        // TOKEN_BUCKET
+        private int capacity = 10;
+        private double refillPerSecond = 1.0;
+
+        // LATENCY
+        private Distribution distribution = Distribution.FIXED;
+        private Duration delay = Duration.ofMillis(100);
+        private Duration maxDelay = Duration.ofSeconds(5);
+
+        // SLOW_DRIP
+        private int chunkBytes = 256;
+        private Duration chunkDelay = Duration.ofMillis(50);
+
+        // ERROR_BURST
+        private int period = 100;
+        private int burst = 5;
+    }
+
+    public enum Type {
+        FIXED_RATE,
+        TOKEN_BUCKET,
+        LATENCY,
+        SLOW_DRIP,
+        ERROR_BURST
+    }
+
+    public enum Distribution {
+        /*
+         * Always sleeps for delay.
+         */
+        FIXED,
+        /*
+         * Sleeps uniformly between delay and maxDelay.
+         */
+        UNIFORM,
+        /*
+         * Sleeps for an exponentially distributed time with mean delay, capped at maxDelay.
+         */
+        EXPONENTIAL
+    }
+}
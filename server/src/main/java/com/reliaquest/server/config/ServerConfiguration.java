@@ -1,47 +1,110 @@
 package com.reliaquest.server.config;
 
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileGenerator;
 import com.reliaquest.server.model.MockEmployee;
+import com.reliaquest.server.model.StringDictionary;
+import com.reliaquest.server.service.MockEmployeeService;
+import com.reliaquest.server.web.FaultInjectionFilter;
 import com.reliaquest.server.web.RandomRequestLimitInterceptor;
+import com.reliaquest.server.web.TraceContextFilter;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Locale;
-import java.util.UUID;
+import java.util.Random;
+import java.util.SplittableRandom;
+import java.util.random.RandomGenerator;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import net.datafaker.Faker;
 import net.datafaker.transformations.Field;
 import net.datafaker.transformations.JavaObjectTransformer;
 import net.datafaker.transformations.Schema;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.LazyInitializationExcludeFilter;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
 import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
 @Slf4j
 @Configuration
+@RequiredArgsConstructor
+@EnableConfigurationProperties(FaultInjectionProperties.class)
 public class ServerConfiguration implements WebMvcConfigurer {
 
     public static final String EMAIL_TEMPLATE = "%s@company.com";
 
+    private final FaultInjectionProperties faultInjectionProperties;
+
+    /*
+     * Under lazy initialization (fast-startup profile) the dataset is still generated during startup rather than on
+     * the first request.
+     */
+    @Bean
+    static LazyInitializationExcludeFilter eagerDataset() {
+        return LazyInitializationExcludeFilter.forBeanTypes(MockEmployeeService.class);
+    }
+
+    /*
+     * Source of all generated data, including employee ids. Instances started with the same mock.employees.seed and
+     * shard generate the same dataset, so they can run as replicas of one another.
+     */
     @Bean
-    public Faker faker() {
-        return new Faker(Locale.getDefault());
+    public Faker faker(@Value("${mock.employees.seed:#{null}}") Long seed) {
+        if (seed == null) {
+            return new Faker(Locale.getDefault());
+        }
+        log.info("Generating employees from seed {}", seed);
+        return new Faker(Locale.getDefault(), new Random(seed));
     }
 
     /*
-     * This list is modifiable by design for CRUD operations.
+     * Binary wire format for the api hop. Replaces Spring's default Smile converter so that repeated short string
+     * values, such as job titles, are written once and back-referenced afterwards.
      */
     @Bean
-    public List<MockEmployee> mockEmployees(Faker faker, @Value("${mock.employees.max:20}") int maxEmployees) {
+    public MappingJackson2SmileHttpMessageConverter smileHttpMessageConverter() {
+        final var factory = SmileFactory.builder()
+                .enable(SmileGenerator.Feature.CHECK_SHARED_STRING_VALUES)
+                .build();
+        return new MappingJackson2SmileHttpMessageConverter(
+                Jackson2ObjectMapperBuilder.smile().factory(factory).build());
+    }
+
+    /*
+     * Single shard by default; run further instances with mock.shard.index/count to split the dataset.
+     */
+    @Bean
+    public ShardPartitioner shardPartitioner(
+            @Value("${mock.shard.index:0}") int index, @Value("${mock.shard.count:1}") int count) {
+        log.info("Serving shard {} of {}", index, count);
+        return new ShardPartitioner(index, count);
+    }
+
+    /*
+     * Seed data only; MockEmployeeService copies it into versioned immutable snapshots for CRUD operations.
+     */
+    @Bean
+    public List<MockEmployee> mockEmployees(
+            Faker faker, ShardPartitioner shardPartitioner, @Value("${mock.employees.max:20}") int maxEmployees) {
         final var transformer = new JavaObjectTransformer();
         final var schema = Schema.of(
-                Field.field("id", UUID::randomUUID),
+                Field.field("id", () -> shardPartitioner.newOwnedId(faker.random()::nextLong)),
                 Field.field("name", () -> faker.name().fullName()),
                 Field.field("salary", () -> faker.number().numberBetween(30000, 500000)),
                 Field.field("age", () -> faker.number().numberBetween(16, 70)),
-                Field.field("title", () -> faker.job().title()),
+                Field.field(
+                        "title",
+                        () -> StringDictionary.TITLES.intern(faker.job().title())),
                 Field.field(
                         "email",
                         () -> EMAIL_TEMPLATE.formatted(
@@ -52,8 +115,35 @@ public class ServerConfiguration implements WebMvcConfigurer {
                 .collect(Collectors.toCollection(ArrayList::new));
     }
 
+    /*
+     * Outermost, so injected faults and latency count as server time in traces.
+     */
+    @Bean
+    public FilterRegistrationBean<TraceContextFilter> traceContextFilter() {
+        final var registration = new FilterRegistrationBean<>(new TraceContextFilter());
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE);
+        return registration;
+    }
+
+    /*
+     * Replaces the random request limit with the scripted profiles from mock.faults.routes.
+     */
+    @Bean
+    @ConditionalOnProperty(prefix = "mock.faults", name = "enabled", havingValue = "true")
+    public FilterRegistrationBean<FaultInjectionFilter> faultInjectionFilter() {
+        final var registration = new FilterRegistrationBean<>(FaultInjectionFilter.from(faultInjectionProperties));
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 1);
+        return registration;
+    }
+
     @Override
     public void addInterceptors(InterceptorRegistry registry) {
-        registry.addInterceptor(new RandomRequestLimitInterceptor());
+        if (faultInjectionProperties.isEnabled()) {
+            return;
+        }
+        final RandomGenerator generator = faultInjectionProperties.getSeed() != null
+                ? new SplittableRandom(faultInjectionProperties.getSeed())
+                : RandomGenerator.getDefault();
+        registry.addInterceptor(RandomRequestLimitInterceptor.random(generator));
     }
 }
@@ -0,0 +1,50 @@
+package com.reliaquest.server.config;
+
+import java.util.UUID;
+import java.util.function.LongSupplier;
+
+/*
+ * Hash partitioning of employees by UUID across mock server shards. This instance owns every id with
+ * shardOf(id) == index and mints new ids accordingly, so clients can route id lookups without a directory. Must stay
+ * identical to the api's ShardPartitioner.
+ */
+public record ShardPartitioner(int index, int count) {
+
+    public ShardPartitioner {
+        if (count < 1 || index < 0 || index >= count) {
+            throw new IllegalArgumentException("Invalid shard %d of %d".formatted(index, count));
+        }
+    }
+
+    public int shardOf(UUID id) {
+        return Math.floorMod(mix(id.getMostSignificantBits() ^ id.getLeastSignificantBits()), count);
+    }
+
+    public boolean owns(UUID id) {
+        return shardOf(id) == index;
+    }
+
+    /*
+     * Draws random version 4 UUIDs from the given bits until one hashes to this shard; takes count draws on average.
+     * A seeded source mints the same ids on every instance started with the same seed and shard.
+     */
+    public UUID newOwnedId(LongSupplier randomBits) {
+        var id = randomId(randomBits);
+        while (!owns(id)) {
+            id = randomId(randomBits);
+        }
+        return id;
+    }
+
+    private static UUID randomId(LongSupplier randomBits) {
+        final var mostSignificant = (randomBits.getAsLong() & ~0xF000L) | 0x4000L;
+        final var leastSignificant = (randomBits.getAsLong() & 0x3FFFFFFFFFFFFFFFL) | 0x8000000000000000L;
+        return new UUID(mostSignificant, leastSignificant);
+    }
+
+    private static long mix(long z) {
+        z = (z ^ (z >>> 30)) * 0xbf58476d1ce4e5b9L;
+        z = (z ^ (z >>> 27)) * 0x94d049bb133111ebL;
+        return z ^ (z >>> 31);
+    }
+}
@@ -2,13 +2,18 @@ package com.reliaquest.server.controller;
 
 import com.reliaquest.server.model.CreateMockEmployeeInput;
 import com.reliaquest.server.model.DeleteMockEmployeeInput;
+import com.reliaquest.server.model.EmployeeQuery;
 import com.reliaquest.server.model.MockEmployee;
 import com.reliaquest.server.model.Response;
 import com.reliaquest.server.service.MockEmployeeService;
+import com.reliaquest.server.web.AcceptEncoding;
+import com.reliaquest.server.web.EncodedResponseCache;
+import com.reliaquest.server.web.WireFormat;
 import jakarta.validation.Valid;
 import java.util.List;
 import java.util.UUID;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
@@ -16,7 +21,9 @@ import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 @RestController
@@ -25,10 +32,54 @@ import org.springframework.web.bind.annotation.RestController;
 public class MockEmployeeController {
 
     private final MockEmployeeService mockEmployeeService;
+    private final EncodedResponseCache encodedResponseCache;
 
+    /*
+     * Without query parameters the full list is served from pre-encoded bytes of an immutable snapshot; the body is
+     * only serialized again after the dataset changes. Pre-compressed bodies carry Content-Encoding, which makes the
+     * connector skip its own compression. The ETag is a digest of the snapshot's rows, so a client revalidating an
+     * unchanged copy gets an empty 304. Query parameters are evaluated on the server so only result rows are sent.
+     */
     @GetMapping()
-    public Response<List<MockEmployee>> getEmployees() {
-        return Response.handledWith(mockEmployeeService.getMockEmployees());
+    public ResponseEntity<?> getEmployees(
+            @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
+            @RequestParam(value = "nameContains", required = false) String nameContains,
+            @RequestParam(value = "sortBy", required = false) String sortBy,
+            @RequestParam(value = "order", required = false) String order,
+            @RequestParam(value = "offset", required = false) Integer offset,
+            @RequestParam(value = "limit", required = false) Integer limit,
+            @RequestParam(value = "fields", required = false) List<String> fields) {
+        final var query = EmployeeQuery.of(nameContains, sortBy, order, offset, limit, fields);
+        if (!query.isEmpty()) {
+            final var result = mockEmployeeService.query(query);
+            if (query.fields() == null) {
+                return ResponseEntity.ok(Response.handledWith(result));
+            }
+            return ResponseEntity.ok(Response.handledWith(result.stream()
+                    .map(employee -> employee.project(query.fields()))
+                    .toList()));
+        }
+        final var format = WireFormat.negotiate(accept);
+        final var snapshot = mockEmployeeService.getSnapshot();
+        if (snapshot.etag().equals(ifNoneMatch)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .eTag(snapshot.etag())
+                    .build();
+        }
+        final var encoded = encodedResponseCache.get(
+                snapshot.version(), format, () -> Response.<List<MockEmployee>>handledWith(snapshot.employees()));
+        final var gzip = AcceptEncoding.accepts(acceptEncoding, "gzip");
+        final var builder = ResponseEntity.ok()
+                .contentType(format.mediaType())
+                .eTag(snapshot.etag())
+                .header(HttpHeaders.VARY, HttpHeaders.ACCEPT, HttpHeaders.ACCEPT_ENCODING);
+        if (gzip) {
+            builder.header(HttpHeaders.CONTENT_ENCODING, "gzip");
+        }
+        final var body = gzip ? encoded.gzip() : encoded.raw();
+        return builder.contentLength(body.length).body(body);
     }
 
     @GetMapping("/{id}")
@@ -39,9 +90,14 @@ public class MockEmployeeController {
                 .orElseGet(() -> ResponseEntity.status(HttpStatus.NOT_FOUND).body(Response.handled()));
     }
 
+    /*
+     * A client may send Idempotency-Key so that retrying a create whose response was lost cannot create it twice.
+     */
     @PostMapping()
-    public Response<MockEmployee> createEmployee(@Valid @RequestBody CreateMockEmployeeInput input) {
-        return Response.handledWith(mockEmployeeService.create(input));
+    public Response<MockEmployee> createEmployee(
+            @Valid @RequestBody CreateMockEmployeeInput input,
+            @RequestHeader(value = "Idempotency-Key", required = false) String idempotencyKey) {
+        return Response.handledWith(mockEmployeeService.create(input, idempotencyKey));
     }
 
     @DeleteMapping()
@@ -0,0 +1,172 @@
+package com.reliaquest.server.model;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+
+/*
+ * Immutable, persistent list stored as a spine of fixed-capacity chunks. Every "mutation" returns a new vector that
+ * shares all untouched chunks with the previous one, so a write copies one chunk plus the spine
+ * (O(n / CHUNK_SIZE + CHUNK_SIZE)) instead of the whole list, and readers holding an older vector keep a consistent
+ * point-in-time view without any locking.
+ */
+public final class ChunkedVector<T> extends AbstractList<T> {
+
+    static final int CHUNK_SIZE = 256;
+
+    private static final ChunkedVector<?> EMPTY = new ChunkedVector<>(new Object[0][], new int[0], 0);
+
+    private final Object[][] chunks;
+
+    /*
+     * offsets[i] is the list index of the first element of chunks[i]. Chunks are never empty, so offsets are strictly
+     * increasing and can be binary searched.
+     */
+    private final int[] offsets;
+
+    private final int size;
+
+    private ChunkedVector(Object[][] chunks, int[] offsets, int size) {
+        this.chunks = chunks;
+        this.offsets = offsets;
+        this.size = size;
+    }
+
+    @SuppressWarnings("unchecked")
+    public static <T> ChunkedVector<T> empty() {
+        return (ChunkedVector<T>) EMPTY;
+    }
+
+    public static <T> ChunkedVector<T> of(Collection<? extends T> items) {
+        final var elements = items.toArray();
+        final var chunkCount = (elements.length + CHUNK_SIZE - 1) / CHUNK_SIZE;
+        final var chunks = new Object[chunkCount][];
+        final var offsets = new int[chunkCount];
+        for (int c = 0; c < chunkCount; c++) {
+            offsets[c] = c * CHUNK_SIZE;
+            chunks[c] = Arrays.copyOfRange(elements, offsets[c], Math.min(elements.length, offsets[c] + CHUNK_SIZE));
+        }
+        return new ChunkedVector<>(chunks, offsets, elements.length);
+    }
+
+    public ChunkedVector<T> append(T item) {
+        final var last = chunks.length - 1;
+        if (last >= 0 && chunks[last].length < CHUNK_SIZE) {
+            final var spine = chunks.clone();
+            spine[last] = Arrays.copyOf(chunks[last], chunks[last].length + 1);
+            spine[last][chunks[last].length] = item;
+            return new ChunkedVector<>(spine, offsets, size + 1);
+        }
+        final var spine = Arrays.copyOf(chunks, chunks.length + 1);
+        spine[chunks.length] = new Object[] {item};
+        final var newOffsets = Arrays.copyOf(offsets, offsets.length + 1);
+        newOffsets[offsets.length] = size;
+        return new ChunkedVector<>(spine, newOffsets, size + 1);
+    }
+
+    public ChunkedVector<T> without(int index) {
+        Objects.checkIndex(index, size);
+        final var c = chunkOf(index);
+        final var chunk = chunks[c];
+        final var position = index - offsets[c];
+        final Object[][] spine;
+        final int[] newOffsets;
+        if (chunk.length == 1) {
+            spine = new Object[chunks.length - 1][];
+            System.arraycopy(chunks, 0, spine, 0, c);
+            System.arraycopy(chunks, c + 1, spine, c, chunks.length - c - 1);
+            newOffsets = new int[offsets.length - 1];
+            System.arraycopy(offsets, 0, newOffsets, 0, c);
+            for (int i = c + 1; i < offsets.length; i++) {
+                newOffsets[i - 1] = offsets[i] - 1;
+            }
+        } else {
+            final var newChunk = new Object[chunk.length - 1];
+            System.arraycopy(chunk, 0, newChunk, 0, position);
+            System.arraycopy(chunk, position + 1, newChunk, position, chunk.length - position - 1);
+            spine = chunks.clone();
+            spine[c] = newChunk;
+            newOffsets = offsets.clone();
+            for (int i = c + 1; i < newOffsets.length; i++) {
+                newOffsets[i]--;
+            }
+        }
+        return new ChunkedVector<>(spine, newOffsets, size - 1);
+    }
+
+    /*
+     * Returns the index of the first element matching the predicate, or -1.
+     */
+    @SuppressWarnings("unchecked")
+    public int indexOf(Predicate<? super T> predicate) {
+        for (int c = 0; c < chunks.length; c++) {
+            final var chunk = chunks[c];
+            for (int i = 0; i < chunk.length; i++) {
+                if (predicate.test((T) chunk[i])) {
+                    return offsets[c] + i;
+                }
+            }
+        }
+        return -1;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public T get(int index) {
+        Objects.checkIndex(index, size);
+        final var c = chunkOf(index);
+        return (T) chunks[c][index - offsets[c]];
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public void forEach(Consumer<? super T> action) {
+        for (Object[] chunk : chunks) {
+            for (Object item : chunk) {
+                action.accept((T) item);
+            }
+        }
+    }
+
+    @Override
+    public Iterator<T> iterator() {
+        return new Iterator<>() {
+            private int chunk;
+            private int position;
+
+            @Override
+            public boolean hasNext() {
+                return chunk < chunks.length;
+            }
+
+            @Override
+            @SuppressWarnings("unchecked")
+            public T next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                final var item = (T) chunks[chunk][position++];
+                if (position == chunks[chunk].length) {
+                    chunk++;
+                    position = 0;
+                }
+                return item;
+            }
+        };
+    }
+
+    private int chunkOf(int index) {
+        final var found = Arrays.binarySearch(offsets, index);
+        return found >= 0 ? found : -found - 2;
+    }
+}
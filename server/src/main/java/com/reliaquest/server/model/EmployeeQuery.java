@@ -0,0 +1,59 @@
+package com.reliaquest.server.model;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/*
+ * Filter, sort, paging and projection pushed down by clients so only result rows cross the wire.
+ * Offset counts rows of the filtered, sorted result; pages are taken from the live dataset.
+ */
+public record EmployeeQuery(
+        String nameContains, SortField sortBy, boolean descending, Integer offset, Integer limit, Set<String> fields) {
+
+    public static EmployeeQuery of(
+            String nameContains, String sortBy, String order, Integer offset, Integer limit, List<String> fields) {
+        if (limit != null && limit < 0) {
+            throw new IllegalArgumentException("limit must not be negative");
+        }
+        if (offset != null && offset < 0) {
+            throw new IllegalArgumentException("offset must not be negative");
+        }
+        final var projection = fields == null || fields.isEmpty()
+                ? null
+                : fields.stream().map(String::trim).collect(Collectors.toUnmodifiableSet());
+        if (projection != null && !MockEmployee.PROPERTIES.containsAll(projection)) {
+            throw new IllegalArgumentException("fields must be a subset of " + MockEmployee.PROPERTIES);
+        }
+        return new EmployeeQuery(
+                nameContains == null ? null : nameContains.toLowerCase(),
+                sortBy == null ? null : SortField.valueOf(sortBy.trim().toUpperCase(Locale.ROOT)),
+                order != null && "desc".equalsIgnoreCase(order.trim()),
+                offset,
+                limit,
+                projection);
+    }
+
+    public boolean isEmpty() {
+        return nameContains == null && sortBy == null && offset == null && limit == null && fields == null;
+    }
+
+    public Comparator<MockEmployee> comparator() {
+        final var comparator = sortBy.comparator;
+        return descending ? comparator.reversed() : comparator;
+    }
+
+    public enum SortField {
+        SALARY(Comparator.comparingInt(MockEmployee::getSalary)),
+        AGE(Comparator.comparingInt(MockEmployee::getAge)),
+        NAME(Comparator.comparing(MockEmployee::getName, Comparator.nullsFirst(String.CASE_INSENSITIVE_ORDER)));
+
+        private final Comparator<MockEmployee> comparator;
+
+        SortField(Comparator<MockEmployee> comparator) {
+            this.comparator = comparator;
+        }
+    }
+}
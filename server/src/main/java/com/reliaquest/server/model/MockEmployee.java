@@ -2,6 +2,10 @@ package com.reliaquest.server.model;
 
 import com.fasterxml.jackson.databind.PropertyNamingStrategies;
 import com.fasterxml.jackson.databind.annotation.JsonNaming;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -14,32 +18,67 @@ import lombok.NonNull;
 @JsonNaming(MockEmployee.PrefixNamingStrategy.class)
 public class MockEmployee {
 
+    public static final List<String> PROPERTIES = List.of("id", "name", "salary", "age", "title", "email");
+
     private UUID id;
     private String name;
-    private Integer salary;
-    private Integer age;
+    private int salary;
+    private int age;
     private String title;
     private String email;
 
     public static MockEmployee from(@NonNull String email, @NonNull CreateMockEmployeeInput input) {
+        return from(UUID.randomUUID(), email, input);
+    }
+
+    public static MockEmployee from(@NonNull UUID id, @NonNull String email, @NonNull CreateMockEmployeeInput input) {
         return MockEmployee.builder()
-                .id(UUID.randomUUID())
+                .id(id)
                 .email(email)
                 .name(input.getName())
                 .salary(input.getSalary())
                 .age(input.getAge())
-                .title(input.getTitle())
+                .title(StringDictionary.TITLES.intern(input.getTitle()))
                 .build();
     }
 
+    /*
+     * Wire representation restricted to the given properties, keyed by their JSON names.
+     */
+    public Map<String, Object> project(@NonNull Set<String> properties) {
+        final var projection = new LinkedHashMap<String, Object>();
+        for (String property : PROPERTIES) {
+            if (properties.contains(property)) {
+                projection.put(jsonName(property), valueOf(property));
+            }
+        }
+        return projection;
+    }
+
+    private Object valueOf(String property) {
+        return switch (property) {
+            case "id" -> id;
+            case "name" -> name;
+            case "salary" -> salary;
+            case "age" -> age;
+            case "title" -> title;
+            case "email" -> email;
+            default -> throw new IllegalArgumentException("Unknown property: " + property);
+        };
+    }
+
+    public static String jsonName(String propertyName) {
+        if ("id".equals(propertyName)) {
+            return propertyName;
+        }
+        return "employee_" + propertyName;
+    }
+
     static class PrefixNamingStrategy extends PropertyNamingStrategies.NamingBase {
 
         @Override
         public String translate(String propertyName) {
-            if ("id".equals(propertyName)) {
-                return propertyName;
-            }
-            return "employee_" + propertyName;
+            return jsonName(propertyName);
         }
     }
 }
@@ -0,0 +1,34 @@
+package com.reliaquest.server.model;
+
+import java.util.concurrent.ConcurrentHashMap;
+
+/*
+ * Bounded interning dictionary for low-cardinality values such as Faker job titles, so that a large mock dataset holds
+ * one String per distinct title. Once full, unseen values are returned as-is.
+ */
+public final class StringDictionary {
+
+    public static final StringDictionary TITLES = new StringDictionary(1 << 16);
+
+    private final ConcurrentHashMap<String, String> entries = new ConcurrentHashMap<>();
+    private final int maxEntries;
+
+    public StringDictionary(int maxEntries) {
+        this.maxEntries = maxEntries;
+    }
+
+    public String intern(String value) {
+        if (value == null) {
+            return null;
+        }
+        final var canonical = entries.get(value);
+        if (canonical != null) {
+            return canonical;
+        }
+        if (entries.size() >= maxEntries) {
+            return value;
+        }
+        final var previous = entries.putIfAbsent(value, value);
+        return previous != null ? previous : value;
+    }
+}
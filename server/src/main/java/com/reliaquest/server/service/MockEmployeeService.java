@@ -1,58 +1,220 @@
 package com.reliaquest.server.service;
 
 import com.reliaquest.server.config.ServerConfiguration;
+import com.reliaquest.server.config.ShardPartitioner;
+import com.reliaquest.server.model.ChunkedVector;
 import com.reliaquest.server.model.CreateMockEmployeeInput;
 import com.reliaquest.server.model.DeleteMockEmployeeInput;
+import com.reliaquest.server.model.EmployeeQuery;
 import com.reliaquest.server.model.MockEmployee;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.PriorityQueue;
 import java.util.UUID;
-import lombok.Getter;
+import java.util.concurrent.atomic.AtomicReference;
 import lombok.NonNull;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import net.datafaker.Faker;
 import org.springframework.stereotype.Service;
 
 @Slf4j
 @Service
-@RequiredArgsConstructor
 public class MockEmployeeService {
 
+    private static final int MAX_IDEMPOTENCY_KEYS = 10_000;
+
     private final Faker faker;
+    private final ShardPartitioner shardPartitioner;
+
+    /*
+     * Current published version of the dataset. Readers take the reference once and work on an immutable
+     * point-in-time view; writers build the next version with structural sharing and publish it with compare-and-set.
+     */
+    private final AtomicReference<Snapshot> snapshot;
 
-    @Getter
-    private final List<MockEmployee> mockEmployees;
+    /*
+     * Employees created per Idempotency-Key, so a client retrying a create after a lost response gets the original
+     * employee back instead of a duplicate. Only the most recent keys are remembered.
+     */
+    private final Map<String, MockEmployee> idempotentCreates = new LinkedHashMap<>() {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, MockEmployee> eldest) {
+            return size() > MAX_IDEMPOTENCY_KEYS;
+        }
+    };
+
+    public MockEmployeeService(Faker faker, ShardPartitioner shardPartitioner, List<MockEmployee> mockEmployees) {
+        this.faker = faker;
+        this.shardPartitioner = shardPartitioner;
+        long digest = 0;
+        for (MockEmployee mockEmployee : mockEmployees) {
+            digest ^= Snapshot.digestOf(mockEmployee);
+        }
+        this.snapshot = new AtomicReference<>(new Snapshot(digest, 0L, ChunkedVector.of(mockEmployees)));
+    }
+
+    public Snapshot getSnapshot() {
+        return snapshot.get();
+    }
+
+    public List<MockEmployee> getMockEmployees() {
+        return snapshot.get().employees();
+    }
 
     public Optional<MockEmployee> findById(@NonNull UUID uuid) {
-        return mockEmployees.stream()
+        return getMockEmployees().stream()
                 .filter(mockEmployee -> Objects.nonNull(mockEmployee.getId())
                         && mockEmployee.getId().equals(uuid))
                 .findFirst();
     }
 
+    /*
+     * Single pass over one snapshot. Sorting with a limit keeps only the best offset + limit rows in a bounded heap
+     * (O(n log(offset + limit))) instead of sorting the whole list. Unfiltered, unsorted pages are sliced by index.
+     */
+    public List<MockEmployee> query(@NonNull EmployeeQuery query) {
+        final var employees = getMockEmployees();
+        final int offset = query.offset() != null ? query.offset() : 0;
+        final int limit = query.limit() != null ? query.limit() : Integer.MAX_VALUE;
+        if (limit == 0 || offset >= employees.size()) {
+            return List.of();
+        }
+        if (query.sortBy() == null && query.nameContains() == null) {
+            return new ArrayList<>(employees.subList(offset, (int) Math.min(employees.size(), (long) offset + limit)));
+        }
+        if (query.sortBy() == null) {
+            final var result = new ArrayList<MockEmployee>();
+            int skipped = 0;
+            for (MockEmployee employee : employees) {
+                if (result.size() == limit) {
+                    break;
+                }
+                if (matches(employee, query)) {
+                    if (skipped < offset) {
+                        skipped++;
+                    } else {
+                        result.add(employee);
+                    }
+                }
+            }
+            return result;
+        }
+        final var window = (int) Math.min(Integer.MAX_VALUE, (long) offset + limit);
+        final var comparator = query.comparator();
+        if (window >= employees.size()) {
+            final var result = new ArrayList<MockEmployee>();
+            employees.forEach(employee -> {
+                if (matches(employee, query)) {
+                    result.add(employee);
+                }
+            });
+            result.sort(comparator);
+            return page(result, offset, limit);
+        }
+        final var heap = new PriorityQueue<MockEmployee>(window + 1, comparator.reversed());
+        employees.forEach(employee -> {
+            if (matches(employee, query)) {
+                heap.offer(employee);
+                if (heap.size() > window) {
+                    heap.poll();
+                }
+            }
+        });
+        final var result = new ArrayList<>(heap);
+        result.sort(comparator);
+        return page(result, offset, limit);
+    }
+
+    private static List<MockEmployee> page(List<MockEmployee> sorted, int offset, int limit) {
+        if (offset == 0 && limit >= sorted.size()) {
+            return sorted;
+        }
+        if (offset >= sorted.size()) {
+            return List.of();
+        }
+        return new ArrayList<>(sorted.subList(offset, (int) Math.min(sorted.size(), (long) offset + limit)));
+    }
+
+    private static boolean matches(MockEmployee employee, EmployeeQuery query) {
+        return query.nameContains() == null
+                || (employee.getName() != null
+                        && employee.getName().toLowerCase().contains(query.nameContains()));
+    }
+
+    /*
+     * Creates at most one employee per idempotency key; a repeated key returns the employee created the first time.
+     */
+    public MockEmployee create(@NonNull CreateMockEmployeeInput input, String idempotencyKey) {
+        if (idempotencyKey == null) {
+            return create(input);
+        }
+        synchronized (idempotentCreates) {
+            final var existing = idempotentCreates.get(idempotencyKey);
+            if (existing != null) {
+                log.debug("Replayed create for idempotency key {}", idempotencyKey);
+                return existing;
+            }
+            final var created = create(input);
+            idempotentCreates.put(idempotencyKey, created);
+            return created;
+        }
+    }
+
     public MockEmployee create(@NonNull CreateMockEmployeeInput input) {
         final var mockEmployee = MockEmployee.from(
+                shardPartitioner.newOwnedId(faker.random()::nextLong),
                 ServerConfiguration.EMAIL_TEMPLATE.formatted(
                         faker.twitter().userName().toLowerCase()),
                 input);
-        mockEmployees.add(mockEmployee);
+        snapshot.updateAndGet(current -> current.next(current.employees().append(mockEmployee), mockEmployee));
         log.debug("Added employee: {}", mockEmployee);
         return mockEmployee;
     }
 
     public boolean delete(@NonNull DeleteMockEmployeeInput input) {
-        final var mockEmployee = mockEmployees.stream()
-                .filter(employee -> Objects.nonNull(employee.getName())
-                        && employee.getName().equalsIgnoreCase(input.getName()))
-                .findFirst();
-        if (mockEmployee.isPresent()) {
-            mockEmployees.remove(mockEmployee.get());
-            log.debug("Removed employee: {}", mockEmployee.get());
-            return true;
+        while (true) {
+            final var current = snapshot.get();
+            final var index = current.employees()
+                    .indexOf(employee -> Objects.nonNull(employee.getName())
+                            && employee.getName().equalsIgnoreCase(input.getName()));
+            if (index < 0) {
+                return false;
+            }
+            final var mockEmployee = current.employees().get(index);
+            if (snapshot.compareAndSet(current, current.next(current.employees().without(index), mockEmployee))) {
+                log.debug("Removed employee: {}", mockEmployee);
+                return true;
+            }
+        }
+    }
+
+    /*
+     * Immutable, versioned view of the dataset. The version is bumped on every mutation so encoded views of the list
+     * can tell when they are stale. The ETag is a digest of the content rather than the version: it is updated in O(1)
+     * per mutation by XOR-ing in the added or removed row, survives restarts, and is equal on any two instances
+     * serving the same rows, which lets the api verify that replicas agree.
+     */
+    public record Snapshot(long digest, long version, ChunkedVector<MockEmployee> employees) {
+
+        Snapshot next(ChunkedVector<MockEmployee> employees, MockEmployee changed) {
+            return new Snapshot(digest ^ digestOf(changed), version + 1, employees);
+        }
+
+        public String etag() {
+            return "\"" + Long.toHexString(digest) + "\"";
         }
 
-        return false;
+        static long digestOf(MockEmployee employee) {
+            final var id = employee.getId();
+            long z = (id == null ? 0 : id.getMostSignificantBits() * 31 + id.getLeastSignificantBits())
+                    ^ ((long) employee.hashCode() << 32);
+            z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+            z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+            return z ^ (z >>> 31);
+        }
     }
 }
@@ -0,0 +1,47 @@
+package com.reliaquest.server.web;
+
+import java.util.Locale;
+
+/*
+ * Content-coding negotiation from an Accept-Encoding header (RFC 9110, section 12.5.3). A coding is acceptable if it
+ * is listed with a quality above zero, or if it is not listed and * is; gzip;q=0 therefore refuses gzip.
+ */
+public final class AcceptEncoding {
+
+    private AcceptEncoding() {}
+
+    public static boolean accepts(String acceptEncoding, String coding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        var wildcard = 0.0;
+        for (final var element : acceptEncoding.split(",")) {
+            final var parts = element.split(";");
+            final var name = parts[0].trim().toLowerCase(Locale.ROOT);
+            if (name.equals(coding)) {
+                return quality(parts) > 0;
+            }
+            if (name.equals("*")) {
+                wildcard = quality(parts);
+            }
+        }
+        return wildcard > 0;
+    }
+
+    /*
+     * The q parameter of a coding: 1 if absent, 0 if malformed.
+     */
+    private static double quality(String[] parts) {
+        for (int i = 1; i < parts.length; i++) {
+            final var parameter = parts[i].trim();
+            if (parameter.regionMatches(true, 0, "q=", 0, 2)) {
+                try {
+                    return Double.parseDouble(parameter.substring(2).trim());
+                } catch (NumberFormatException e) {
+                    return 0;
+                }
+            }
+        }
+        return 1;
+    }
+}
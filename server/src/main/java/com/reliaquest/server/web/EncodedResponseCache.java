@@ -0,0 +1,76 @@
+package com.reliaquest.server.web;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+import java.util.zip.GZIPOutputStream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+import org.springframework.stereotype.Component;
+
+/*
+ * Holds the fully encoded body of the employee list, per wire format both raw and gzip-compressed, for a single
+ * dataset version. Any create or delete bumps the dataset version, which invalidates every entry; the next read of a
+ * format re-encodes once and every following read is a plain byte copy.
+ */
+@Slf4j
+@Component
+public class EncodedResponseCache {
+
+    private final Map<WireFormat, ObjectMapper> objectMappers = new EnumMap<>(WireFormat.class);
+
+    private final AtomicReference<Generation> current = new AtomicReference<>(new Generation(-1L));
+
+    public EncodedResponseCache(ObjectMapper objectMapper, MappingJackson2SmileHttpMessageConverter smileConverter) {
+        objectMappers.put(WireFormat.JSON, objectMapper);
+        objectMappers.put(WireFormat.SMILE, smileConverter.getObjectMapper());
+    }
+
+    public Encoded get(long version, WireFormat format, Supplier<?> body) {
+        var generation = current.get();
+        if (generation.version() != version) {
+            generation = current.accumulateAndGet(
+                    new Generation(version),
+                    (existing, candidate) -> existing.version() < candidate.version() ? candidate : existing);
+        }
+        if (generation.version() != version) {
+            // A newer version has already been published; serve this reader without polluting the cache.
+            return encode(version, format, body.get());
+        }
+        // computeIfAbsent also keeps concurrent misses for the same format from encoding twice.
+        return generation.encodings().computeIfAbsent(format, ignored -> encode(version, format, body.get()));
+    }
+
+    private Encoded encode(long version, WireFormat format, Object body) {
+        try {
+            final var raw = objectMappers.get(format).writeValueAsBytes(body);
+            final var compressed = new ByteArrayOutputStream(Math.max(64, raw.length / 4));
+            try (var gzip = new GZIPOutputStream(compressed)) {
+                gzip.write(raw);
+            }
+            log.debug(
+                    "Encoded employee list version {} as {} ({} bytes, {} gzipped)",
+                    version,
+                    format,
+                    raw.length,
+                    compressed.size());
+            return new Encoded(raw, compressed.toByteArray());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public record Encoded(byte[] raw, byte[] gzip) {}
+
+    private record Generation(long version, Map<WireFormat, Encoded> encodings) {
+        Generation(long version) {
+            this(version, new ConcurrentHashMap<>(4));
+        }
+    }
+}
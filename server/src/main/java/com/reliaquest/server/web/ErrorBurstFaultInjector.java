@@ -0,0 +1,34 @@
+package com.reliaquest.server.web;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/*
+ * Fails the first {@code burst} requests of every {@code period} requests, producing periodic outages whose position
+ * is shifted by the seed.
+ */
+class ErrorBurstFaultInjector implements FaultInjector {
+
+    private final int period;
+    private final int burst;
+    private final int status;
+    private final long offset;
+    private final SeededSequence sequence;
+
+    ErrorBurstFaultInjector(int period, int burst, int status, SeededSequence sequence, long seed) {
+        this.period = Math.max(1, period);
+        this.burst = burst;
+        this.status = status;
+        this.offset = Math.floorMod(seed, this.period);
+        this.sequence = sequence;
+    }
+
+    @Override
+    public HttpServletResponse inject(HttpServletRequest request, HttpServletResponse response) {
+        if (Math.floorMod(sequence.nextOrdinal() + offset, period) < burst) {
+            response.setStatus(status);
+            return null;
+        }
+        return response;
+    }
+}
@@ -0,0 +1,105 @@
+package com.reliaquest.server.web;
+
+import com.reliaquest.server.config.FaultInjectionProperties;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.random.RandomGenerator;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.util.PathMatcher;
+import org.springframework.util.StringUtils;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+/*
+ * Pluggable fault and latency injection engine. Each configured route owns an ordered chain of FaultInjectors; the
+ * first route matching a request applies its chain, and any injector may short-circuit the request or wrap the
+ * response. Runs as a filter rather than an interceptor so injectors can also shape the response body.
+ */
+@Slf4j
+public class FaultInjectionFilter extends OncePerRequestFilter {
+
+    private static final PathMatcher PATH_MATCHER = new AntPathMatcher();
+
+    private final List<FaultRoute> routes;
+
+    public FaultInjectionFilter(List<FaultRoute> routes) {
+        this.routes = List.copyOf(routes);
+    }
+
+    public static FaultInjectionFilter from(FaultInjectionProperties properties) {
+        final long seed = properties.getSeed() != null
+                ? properties.getSeed()
+                : RandomGenerator.getDefault().nextLong();
+        final var routes = new ArrayList<FaultRoute>();
+        for (int r = 0; r < properties.getRoutes().size(); r++) {
+            final var route = properties.getRoutes().get(r);
+            final var injectors = new ArrayList<FaultInjector>();
+            for (int p = 0; p < route.getProfiles().size(); p++) {
+                final long injectorSeed = SeededSequence.mix(seed + ((long) r << 32) + p);
+                injectors.add(create(route.getProfiles().get(p), injectorSeed));
+            }
+            log.debug("Fault route {} {} -> {}", route.getMethod(), route.getPath(), route.getProfiles());
+            routes.add(new FaultRoute(route.getPath(), route.getMethod(), injectors));
+        }
+        return new FaultInjectionFilter(routes);
+    }
+
+    static FaultInjector create(FaultInjectionProperties.Profile profile, long seed) {
+        final var sequence = new SeededSequence(seed);
+        return switch (profile.getType()) {
+            case FIXED_RATE -> new FixedRateFaultInjector(
+                    profile.getRate(), statusOr(profile, HttpStatus.TOO_MANY_REQUESTS), sequence);
+            case TOKEN_BUCKET -> new TokenBucketFaultInjector(
+                    profile.getCapacity(),
+                    profile.getRefillPerSecond(),
+                    statusOr(profile, HttpStatus.TOO_MANY_REQUESTS));
+            case LATENCY -> new LatencyFaultInjector(
+                    profile.getDistribution(), profile.getDelay(), profile.getMaxDelay(), sequence);
+            case SLOW_DRIP -> new SlowDripFaultInjector(profile.getChunkBytes(), profile.getChunkDelay());
+            case ERROR_BURST -> new ErrorBurstFaultInjector(
+                    profile.getPeriod(),
+                    profile.getBurst(),
+                    statusOr(profile, HttpStatus.SERVICE_UNAVAILABLE),
+                    sequence,
+                    seed);
+        };
+    }
+
+    private static int statusOr(FaultInjectionProperties.Profile profile, HttpStatus fallback) {
+        return profile.getStatus() != null ? profile.getStatus() : fallback.value();
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        var current = response;
+        final var route = routes.stream().filter(r -> r.matches(request)).findFirst();
+        if (route.isPresent()) {
+            for (FaultInjector injector : route.get().injectors()) {
+                current = injector.inject(request, current);
+                if (current == null) {
+                    return;
+                }
+            }
+        }
+        filterChain.doFilter(request, current);
+    }
+
+    public record FaultRoute(String path, String method, List<FaultInjector> injectors) {
+
+        boolean matches(HttpServletRequest request) {
+            if (StringUtils.hasText(method) && !method.equalsIgnoreCase(request.getMethod())) {
+                return false;
+            }
+            final var uri =
+                    request.getRequestURI().substring(request.getContextPath().length());
+            return PATH_MATCHER.match(path, uri);
+        }
+    }
+}
@@ -0,0 +1,19 @@
+package com.reliaquest.server.web;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+
+/*
+ * A single fault applied by FaultInjectionFilter. Implementations must be thread-safe and should avoid locking since
+ * they sit in front of every matching request.
+ */
+@FunctionalInterface
+public interface FaultInjector {
+
+    /**
+     * @return the response the rest of the chain should write to (possibly wrapped), or {@code null} when the request
+     * has been answered by the injector and must not reach the controller
+     */
+    HttpServletResponse inject(HttpServletRequest request, HttpServletResponse response) throws IOException;
+}
@@ -0,0 +1,29 @@
+package com.reliaquest.server.web;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/*
+ * Rejects a fixed fraction of requests with the configured status.
+ */
+class FixedRateFaultInjector implements FaultInjector {
+
+    private final double rate;
+    private final int status;
+    private final SeededSequence sequence;
+
+    FixedRateFaultInjector(double rate, int status, SeededSequence sequence) {
+        this.rate = rate;
+        this.status = status;
+        this.sequence = sequence;
+    }
+
+    @Override
+    public HttpServletResponse inject(HttpServletRequest request, HttpServletResponse response) {
+        if (sequence.nextDouble() < rate) {
+            response.setStatus(status);
+            return null;
+        }
+        return response;
+    }
+}
@@ -0,0 +1,46 @@
+package com.reliaquest.server.web;
+
+import com.reliaquest.server.config.FaultInjectionProperties.Distribution;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/*
+ * Delays the request before it reaches the controller.
+ */
+class LatencyFaultInjector implements FaultInjector {
+
+    private final Distribution distribution;
+    private final long delayNanos;
+    private final long maxDelayNanos;
+    private final SeededSequence sequence;
+
+    LatencyFaultInjector(Distribution distribution, Duration delay, Duration maxDelay, SeededSequence sequence) {
+        this.distribution = distribution;
+        this.delayNanos = delay.toNanos();
+        this.maxDelayNanos = Math.max(delayNanos, maxDelay.toNanos());
+        this.sequence = sequence;
+    }
+
+    @Override
+    public HttpServletResponse inject(HttpServletRequest request, HttpServletResponse response) {
+        final var nanos = nextDelayNanos();
+        if (nanos > 0) {
+            try {
+                TimeUnit.NANOSECONDS.sleep(nanos);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        return response;
+    }
+
+    long nextDelayNanos() {
+        return switch (distribution) {
+            case FIXED -> delayNanos;
+            case UNIFORM -> delayNanos + (long) (sequence.nextDouble() * (maxDelayNanos - delayNanos));
+            case EXPONENTIAL -> Math.min(maxDelayNanos, (long) (-Math.log(1.0 - sequence.nextDouble()) * delayNanos));
+        };
+    }
+}
@@ -6,41 +6,54 @@ import java.time.Duration;
 import java.time.Instant;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.random.RandomGenerator;
-import lombok.Getter;
 import org.springframework.http.HttpStatus;
 import org.springframework.web.servlet.HandlerInterceptor;
 
 public class RandomRequestLimitInterceptor implements HandlerInterceptor {
 
-    private static final int REQUEST_LIMIT = RandomGenerator.getDefault().nextInt(5, 10);
-    private static final Duration REQUEST_BACKOFF_DURATION =
-            Duration.ofSeconds(RandomGenerator.getDefault().nextInt(30, 90));
+    private final int requestLimit;
+    private final Duration requestBackoffDuration;
 
-    private final AtomicReference<RequestLimit> requestLimit = new AtomicReference<>(RequestLimit.init());
+    private final AtomicReference<RequestLimit> state = new AtomicReference<>(RequestLimit.init());
 
+    public RandomRequestLimitInterceptor(int requestLimit, Duration requestBackoffDuration) {
+        this.requestLimit = requestLimit;
+        this.requestBackoffDuration = requestBackoffDuration;
+    }
+
+    /*
+     * Picks the limit and backoff from the given generator; pass a seeded generator for reproducible runs.
+     */
+    public static RandomRequestLimitInterceptor random(RandomGenerator generator) {
+        return new RandomRequestLimitInterceptor(
+                generator.nextInt(5, 10), Duration.ofSeconds(generator.nextInt(30, 90)));
+    }
+
+    /*
+     * The whole read-check-set runs inside a single compare-and-set loop, so concurrent requests can neither
+     * overshoot the limit nor lose a window reset.
+     */
     @Override
     public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
-        if (requestLimit.get().getCount() >= REQUEST_LIMIT) {
-            if (Instant.now()
-                    .minus(REQUEST_BACKOFF_DURATION)
-                    .isBefore(requestLimit.get().getLastRequested())) {
+        while (true) {
+            final var current = state.get();
+            final var now = Instant.now();
+            final RequestLimit next;
+            if (current.count() < requestLimit) {
+                next = new RequestLimit(current.count() + 1, now);
+            } else if (now.minus(requestBackoffDuration).isBefore(current.lastRequested())) {
                 response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
                 return false;
+            } else {
+                next = new RequestLimit(1, now);
             }
-            if (Instant.now()
-                    .minus(REQUEST_BACKOFF_DURATION)
-                    .isAfter(requestLimit.get().getLastRequested())) {
-                requestLimit.set(RequestLimit.init());
+            if (state.compareAndSet(current, next)) {
+                return true;
             }
-        } else {
-            requestLimit.getAndUpdate(
-                    currentRequestLimit -> new RequestLimit(currentRequestLimit.count() + 1, Instant.now()));
         }
-
-        return true;
     }
 
-    private record RequestLimit(@Getter int count, @Getter Instant lastRequested) {
+    private record RequestLimit(int count, Instant lastRequested) {
         public static RequestLimit init() {
             return new RequestLimit(0, Instant.now());
         }
@@ -0,0 +1,33 @@
+package com.reliaquest.server.web;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/*
+ * Lock-free, ordinal based random source: the n-th draw is a pure function of (seed, n), so a seeded run yields the
+ * same fault pattern per request ordinal no matter which thread serves which request. Uses the SplitMix64 finalizer.
+ */
+final class SeededSequence {
+
+    private static final long GOLDEN_GAMMA = 0x9E3779B97F4A7C15L;
+
+    private final long seed;
+    private final AtomicLong ordinal = new AtomicLong();
+
+    SeededSequence(long seed) {
+        this.seed = seed;
+    }
+
+    long nextOrdinal() {
+        return ordinal.getAndIncrement();
+    }
+
+    double nextDouble() {
+        return (mix(seed + nextOrdinal() * GOLDEN_GAMMA) >>> 11) * 0x1.0p-53;
+    }
+
+    static long mix(long z) {
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+}
@@ -0,0 +1,42 @@
+package com.reliaquest.server.web;
+
+import com.reliaquest.server.controller.MockEmployeeController;
+import java.util.Locale;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.http.server.ServletServerHttpRequest;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+/*
+ * Reports server time for traced requests as "Server-Timing: app;dur=<ms>", measured from TraceContextFilter up to
+ * the response being written, so the api can split an upstream hop into network and server time.
+ */
+@ControllerAdvice(assignableTypes = MockEmployeeController.class)
+public class ServerTimingAdvice implements ResponseBodyAdvice<Object> {
+
+    @Override
+    public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+        return true;
+    }
+
+    @Override
+    public Object beforeBodyWrite(
+            Object body,
+            MethodParameter returnType,
+            MediaType selectedContentType,
+            Class<? extends HttpMessageConverter<?>> selectedConverterType,
+            ServerHttpRequest request,
+            ServerHttpResponse response) {
+        if (request instanceof ServletServerHttpRequest servletRequest
+                && servletRequest.getServletRequest().getAttribute(TraceContextFilter.START_ATTRIBUTE)
+                        instanceof Long start) {
+            final var millis = (System.nanoTime() - start) / 1e6;
+            response.getHeaders().set("Server-Timing", String.format(Locale.ROOT, "app;dur=%.3f", millis));
+        }
+        return body;
+    }
+}
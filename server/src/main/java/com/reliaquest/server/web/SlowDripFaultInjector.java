@@ -0,0 +1,124 @@
+package com.reliaquest.server.web;
+
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.WriteListener;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+import java.nio.charset.Charset;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/*
+ * Lets the controller run normally but trickles its body to the socket in small flushed chunks with a pause between
+ * each, simulating a congested or slow upstream.
+ */
+class SlowDripFaultInjector implements FaultInjector {
+
+    private final int chunkBytes;
+    private final long chunkDelayNanos;
+
+    SlowDripFaultInjector(int chunkBytes, Duration chunkDelay) {
+        this.chunkBytes = Math.max(1, chunkBytes);
+        this.chunkDelayNanos = chunkDelay.toNanos();
+    }
+
+    @Override
+    public HttpServletResponse inject(HttpServletRequest request, HttpServletResponse response) {
+        return new DripResponse(response);
+    }
+
+    private class DripResponse extends HttpServletResponseWrapper {
+
+        private DripOutputStream outputStream;
+        private PrintWriter writer;
+
+        DripResponse(HttpServletResponse response) {
+            super(response);
+        }
+
+        @Override
+        public ServletOutputStream getOutputStream() throws IOException {
+            if (outputStream == null) {
+                outputStream = new DripOutputStream(super.getOutputStream());
+            }
+            return outputStream;
+        }
+
+        @Override
+        public PrintWriter getWriter() throws IOException {
+            if (writer == null) {
+                writer = new PrintWriter(
+                        new OutputStreamWriter(getOutputStream(), Charset.forName(getCharacterEncoding())), true);
+            }
+            return writer;
+        }
+
+        @Override
+        public void flushBuffer() throws IOException {
+            if (writer != null) {
+                writer.flush();
+            }
+            super.flushBuffer();
+        }
+
+        @Override
+        public void setContentLength(int len) {
+            // Dripped bodies are always chunked.
+        }
+
+        @Override
+        public void setContentLengthLong(long len) {
+            // Dripped bodies are always chunked.
+        }
+    }
+
+    private class DripOutputStream extends ServletOutputStream {
+
+        private final ServletOutputStream delegate;
+
+        DripOutputStream(ServletOutputStream delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            write(new byte[] {(byte) b}, 0, 1);
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            for (int written = 0; written < len; written += chunkBytes) {
+                delegate.write(b, off + written, Math.min(chunkBytes, len - written));
+                delegate.flush();
+                pause();
+            }
+        }
+
+        @Override
+        public void flush() throws IOException {
+            delegate.flush();
+        }
+
+        @Override
+        public boolean isReady() {
+            return delegate.isReady();
+        }
+
+        @Override
+        public void setWriteListener(WriteListener writeListener) {
+            delegate.setWriteListener(writeListener);
+        }
+
+        private void pause() {
+            try {
+                TimeUnit.NANOSECONDS.sleep(chunkDelayNanos);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package com.reliaquest.server.web;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.LongSupplier;
+
+/*
+ * Classic token bucket. The bucket state is an immutable value swapped with compare-and-set so concurrent requests
+ * never double-spend a token.
+ */
+class TokenBucketFaultInjector implements FaultInjector {
+
+    private final int capacity;
+    private final double refillPerNano;
+    private final int status;
+    private final LongSupplier nanoClock;
+    private final AtomicReference<Bucket> bucket;
+
+    TokenBucketFaultInjector(int capacity, double refillPerSecond, int status) {
+        this(capacity, refillPerSecond, status, System::nanoTime);
+    }
+
+    TokenBucketFaultInjector(int capacity, double refillPerSecond, int status, LongSupplier nanoClock) {
+        this.capacity = capacity;
+        this.refillPerNano = refillPerSecond / TimeUnit.SECONDS.toNanos(1);
+        this.status = status;
+        this.nanoClock = nanoClock;
+        this.bucket = new AtomicReference<>(new Bucket(capacity, nanoClock.getAsLong()));
+    }
+
+    @Override
+    public HttpServletResponse inject(HttpServletRequest request, HttpServletResponse response) {
+        while (true) {
+            final var current = bucket.get();
+            final var now = nanoClock.getAsLong();
+            final var tokens = Math.min(capacity, current.tokens() + (now - current.refilledAt()) * refillPerNano);
+            if (tokens < 1.0) {
+                response.setStatus(status);
+                return null;
+            }
+            if (bucket.compareAndSet(current, new Bucket(tokens - 1.0, now))) {
+                return response;
+            }
+        }
+    }
+
+    private record Bucket(double tokens, long refilledAt) {}
+}
@@ -0,0 +1,41 @@
+package com.reliaquest.server.web;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.util.regex.Pattern;
+import org.slf4j.MDC;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+/*
+ * Continues a trace started by the api. A request carrying X-Trace-Id gets the id in its log lines and echoed back,
+ * and its start time is kept so ServerTimingAdvice can report how long the server spent on it. Requests without
+ * the header pass through untouched.
+ */
+public class TraceContextFilter extends OncePerRequestFilter {
+
+    public static final String TRACE_HEADER = "X-Trace-Id";
+    static final String START_ATTRIBUTE = TraceContextFilter.class.getName() + ".start";
+
+    private static final Pattern TRACE_ID = Pattern.compile("[A-Za-z0-9-]{1,64}");
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        final var traceId = request.getHeader(TRACE_HEADER);
+        if (traceId == null || !TRACE_ID.matcher(traceId).matches()) {
+            chain.doFilter(request, response);
+            return;
+        }
+        request.setAttribute(START_ATTRIBUTE, System.nanoTime());
+        response.setHeader(TRACE_HEADER, traceId);
+        MDC.put("traceId", traceId);
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            MDC.remove("traceId");
+        }
+    }
+}
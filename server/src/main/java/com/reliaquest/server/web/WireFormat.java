@@ -0,0 +1,47 @@
+package com.reliaquest.server.web;
+
+import java.util.Comparator;
+import org.springframework.http.InvalidMediaTypeException;
+import org.springframework.http.MediaType;
+
+/*
+ * Encodings the employee list can be served in. JSON stays the default; Smile is a binary JSON with varint numbers
+ * and back-references for repeated field names and short strings (titles), meant for the internal api hop.
+ */
+public enum WireFormat {
+    JSON(MediaType.APPLICATION_JSON),
+    SMILE(new MediaType("application", "x-jackson-smile"));
+
+    public static final String SMILE_VALUE = "application/x-jackson-smile";
+
+    private final MediaType mediaType;
+
+    WireFormat(MediaType mediaType) {
+        this.mediaType = mediaType;
+    }
+
+    public MediaType mediaType() {
+        return mediaType;
+    }
+
+    /*
+     * Picks Smile only when the client explicitly asks for it with at least the quality of anything JSON-compatible.
+     */
+    public static WireFormat negotiate(String accept) {
+        if (accept == null || !accept.contains(SMILE_VALUE)) {
+            return JSON;
+        }
+        try {
+            return MediaType.parseMediaTypes(accept).stream()
+                    .filter(type -> type.getQualityValue() > 0)
+                    .sorted(Comparator.comparingDouble(MediaType::getQualityValue)
+                            .reversed())
+                    .filter(type -> type.equalsTypeAndSubtype(SMILE.mediaType) || type.includes(JSON.mediaType))
+                    .findFirst()
+                    .map(type -> type.equalsTypeAndSubtype(SMILE.mediaType) ? SMILE : JSON)
+                    .orElse(JSON);
+        } catch (InvalidMediaTypeException e) {
+            return JSON;
+        }
+    }
+}
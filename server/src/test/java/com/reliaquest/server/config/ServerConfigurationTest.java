@@ -0,0 +1,36 @@
+package com.reliaquest.server.config;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.reliaquest.server.model.MockEmployee;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class ServerConfigurationTest {
+
+    private final ServerConfiguration configuration = new ServerConfiguration(new FaultInjectionProperties());
+
+    @Test
+    void sameSeedAndShardGenerateTheSameDataset() {
+        final var shard = new ShardPartitioner(1, 3);
+
+        final var first = generate(7L, shard);
+        final var second = generate(7L, shard);
+
+        assertEquals(first, second);
+        assertTrue(first.stream().allMatch(employee -> shard.owns(employee.getId())));
+        assertTrue(first.stream().allMatch(employee -> employee.getId().version() == 4));
+    }
+
+    @Test
+    void differentSeedsGenerateDifferentIds() {
+        final var shard = new ShardPartitioner(0, 1);
+
+        assertNotEquals(
+                generate(7L, shard).get(0).getId(), generate(8L, shard).get(0).getId());
+    }
+
+    private List<MockEmployee> generate(Long seed, ShardPartitioner shard) {
+        return configuration.mockEmployees(configuration.faker(seed), shard, 10);
+    }
+}
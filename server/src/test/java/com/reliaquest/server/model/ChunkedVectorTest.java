@@ -0,0 +1,92 @@
+package com.reliaquest.server.model;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+
+class ChunkedVectorTest {
+
+    @Test
+    void appendsAcrossChunkBoundaries() {
+        var vector = ChunkedVector.<Integer>empty();
+        for (int i = 0; i < ChunkedVector.CHUNK_SIZE * 2 + 3; i++) {
+            vector = vector.append(i);
+        }
+
+        assertEquals(ChunkedVector.CHUNK_SIZE * 2 + 3, vector.size());
+        for (int i = 0; i < vector.size(); i++) {
+            assertEquals(i, vector.get(i));
+        }
+        assertEquals(IntStream.range(0, vector.size()).boxed().toList(), new ArrayList<>(vector));
+    }
+
+    @Test
+    void removalShiftsLaterOffsets() {
+        final var items =
+                IntStream.range(0, ChunkedVector.CHUNK_SIZE * 3).boxed().toList();
+        final var vector = ChunkedVector.of(items);
+
+        final var removed = vector.without(10);
+
+        assertEquals(items.size() - 1, removed.size());
+        assertEquals(9, removed.get(9));
+        assertEquals(11, removed.get(10));
+        assertEquals(ChunkedVector.CHUNK_SIZE + 1, removed.get(ChunkedVector.CHUNK_SIZE));
+        assertEquals(items.get(items.size() - 1), removed.get(removed.size() - 1));
+        assertEquals(10, vector.get(10));
+    }
+
+    @Test
+    void removingTheLastElementOfAChunkDropsTheChunk() {
+        final var vector = ChunkedVector.<String>empty().append("a").append("b");
+        var single = ChunkedVector.<String>empty();
+        for (int i = 0; i < ChunkedVector.CHUNK_SIZE; i++) {
+            single = single.append("x" + i);
+        }
+        single = single.append("tail").append("end");
+
+        final var withoutTail = single.without(ChunkedVector.CHUNK_SIZE).without(ChunkedVector.CHUNK_SIZE);
+
+        assertEquals(ChunkedVector.CHUNK_SIZE, withoutTail.size());
+        assertEquals("x" + (ChunkedVector.CHUNK_SIZE - 1), withoutTail.get(ChunkedVector.CHUNK_SIZE - 1));
+        assertEquals(List.of("b"), vector.without(0));
+        assertEquals(List.of(), vector.without(0).without(0));
+    }
+
+    @Test
+    void matchesArrayListUnderRandomEdits() {
+        final var random = new Random(17);
+        final var expected = new ArrayList<Integer>();
+        var vector = ChunkedVector.<Integer>empty();
+        for (int step = 0; step < 5_000; step++) {
+            if (expected.isEmpty() || random.nextInt(3) > 0) {
+                expected.add(step);
+                vector = vector.append(step);
+            } else {
+                final var index = random.nextInt(expected.size());
+                expected.remove(index);
+                vector = vector.without(index);
+            }
+        }
+
+        assertEquals(expected.size(), vector.size());
+        for (int i = 0; i < expected.size(); i++) {
+            assertEquals(expected.get(i), vector.get(i));
+        }
+        final var probe = expected.get(expected.size() / 2);
+        assertEquals(expected.indexOf(probe), vector.indexOf(probe::equals));
+        assertEquals(-1, vector.indexOf(item -> item < 0));
+    }
+
+    @Test
+    void rejectsOutOfRangeIndexes() {
+        final var vector = ChunkedVector.of(List.of(1, 2, 3));
+
+        assertThrows(IndexOutOfBoundsException.class, () -> vector.get(3));
+        assertThrows(IndexOutOfBoundsException.class, () -> vector.without(-1));
+    }
+}
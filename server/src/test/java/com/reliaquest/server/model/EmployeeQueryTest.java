@@ -0,0 +1,68 @@
+package com.reliaquest.server.model;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Test;
+
+class EmployeeQueryTest {
+
+    @Test
+    void parsesAndNormalisesParameters() {
+        final var query = EmployeeQuery.of("JaNe", " salary ", "DESC", 5, 10, List.of("name", " salary"));
+
+        assertEquals("jane", query.nameContains());
+        assertEquals(EmployeeQuery.SortField.SALARY, query.sortBy());
+        assertTrue(query.descending());
+        assertEquals(5, query.offset());
+        assertEquals(10, query.limit());
+        assertEquals(Set.of("name", "salary"), query.fields());
+        assertFalse(query.isEmpty());
+        assertTrue(EmployeeQuery.of(null, null, null, null, null, List.of()).isEmpty());
+    }
+
+    @Test
+    void rejectsInvalidParameters() {
+        assertThrows(IllegalArgumentException.class, () -> EmployeeQuery.of(null, null, null, -1, null, null));
+        assertThrows(IllegalArgumentException.class, () -> EmployeeQuery.of(null, null, null, null, -1, null));
+        assertThrows(IllegalArgumentException.class, () -> EmployeeQuery.of(null, "height", null, null, null, null));
+        assertThrows(
+                IllegalArgumentException.class, () -> EmployeeQuery.of(null, null, null, null, null, List.of("ssn")));
+    }
+
+    @Test
+    void comparatorFollowsSortFieldAndOrder() {
+        final var low = employee("Ann", 50_000, 30);
+        final var high = employee("bob", 90_000, 25);
+
+        assertEquals(
+                List.of(high, low),
+                Stream.of(low, high)
+                        .sorted(EmployeeQuery.of(null, "salary", "desc", null, null, null)
+                                .comparator())
+                        .toList());
+        assertEquals(
+                List.of(high, low),
+                Stream.of(low, high)
+                        .sorted(EmployeeQuery.of(null, "age", null, null, null, null)
+                                .comparator())
+                        .toList());
+        assertEquals(
+                List.of(low, high),
+                Stream.of(high, low)
+                        .sorted(EmployeeQuery.of(null, "name", "asc", null, null, null)
+                                .comparator())
+                        .toList());
+    }
+
+    private static MockEmployee employee(String name, int salary, int age) {
+        return MockEmployee.builder()
+                .name(name)
+                .salary(salary)
+                .age(age)
+                .title("Engineer")
+                .build();
+    }
+}
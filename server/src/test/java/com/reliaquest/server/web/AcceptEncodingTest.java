@@ -0,0 +1,35 @@
+package com.reliaquest.server.web;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.Test;
+
+class AcceptEncodingTest {
+
+    @Test
+    void listedCodingIsAccepted() {
+        assertTrue(AcceptEncoding.accepts("gzip", "gzip"));
+        assertTrue(AcceptEncoding.accepts("deflate, GZIP;q=0.5", "gzip"));
+        assertTrue(AcceptEncoding.accepts("br;q=1.0, gzip ; q=0.001", "gzip"));
+    }
+
+    @Test
+    void zeroQualityRefusesTheCoding() {
+        assertFalse(AcceptEncoding.accepts("gzip;q=0", "gzip"));
+        assertFalse(AcceptEncoding.accepts("gzip;Q=0.000, *", "gzip"));
+    }
+
+    @Test
+    void wildcardCoversUnlistedCodings() {
+        assertTrue(AcceptEncoding.accepts("*", "gzip"));
+        assertFalse(AcceptEncoding.accepts("br, *;q=0", "gzip"));
+    }
+
+    @Test
+    void missingOrUnrelatedHeaderRefuses() {
+        assertFalse(AcceptEncoding.accepts(null, "gzip"));
+        assertFalse(AcceptEncoding.accepts("identity", "gzip"));
+        assertFalse(AcceptEncoding.accepts("x-gzip-like", "gzip"));
+        assertFalse(AcceptEncoding.accepts("gzip;q=abc", "gzip"));
+    }
+}
@@ -0,0 +1,73 @@
+package com.reliaquest.server.web;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.reliaquest.server.config.FaultInjectionProperties;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+class FaultInjectionFilterTest {
+
+    @Test
+    void sameSeedGivesSameFaultSequence() throws Exception {
+        final var profile = profile(FaultInjectionProperties.Type.FIXED_RATE);
+        profile.setRate(0.5);
+
+        final var first = outcomes(FaultInjectionFilter.create(profile, 42L), 200);
+        final var second = outcomes(FaultInjectionFilter.create(profile, 42L), 200);
+        final var other = outcomes(FaultInjectionFilter.create(profile, 43L), 200);
+
+        assertEquals(first, second);
+        assertNotEquals(first, other);
+        assertTrue(first.contains(true) && first.contains(false));
+    }
+
+    @Test
+    void errorBurstFailsBurstOutOfEveryPeriod() throws Exception {
+        final var profile = profile(FaultInjectionProperties.Type.ERROR_BURST);
+        profile.setPeriod(10);
+        profile.setBurst(3);
+
+        final var outcomes = outcomes(FaultInjectionFilter.create(profile, 7L), 100);
+
+        for (int window = 0; window < 10; window++) {
+            assertEquals(
+                    3,
+                    outcomes.subList(window * 10, window * 10 + 10).stream()
+                            .filter(rejected -> rejected)
+                            .count());
+        }
+        assertEquals(outcomes, outcomes(FaultInjectionFilter.create(profile, 7L), 100));
+    }
+
+    @Test
+    void rejectionUsesConfiguredStatus() throws Exception {
+        final var profile = profile(FaultInjectionProperties.Type.FIXED_RATE);
+        profile.setRate(1.0);
+        profile.setStatus(502);
+        final var response = new MockHttpServletResponse();
+
+        assertNull(FaultInjectionFilter.create(profile, 1L).inject(new MockHttpServletRequest(), response));
+        assertEquals(502, response.getStatus());
+    }
+
+    private static FaultInjectionProperties.Profile profile(FaultInjectionProperties.Type type) {
+        final var profile = new FaultInjectionProperties.Profile();
+        profile.setType(type);
+        return profile;
+    }
+
+    /*
+     * Whether each of the first n requests was rejected.
+     */
+    private static List<Boolean> outcomes(FaultInjector injector, int n) throws Exception {
+        final var outcomes = new ArrayList<Boolean>();
+        for (int i = 0; i < n; i++) {
+            outcomes.add(injector.inject(new MockHttpServletRequest(), new MockHttpServletResponse()) == null);
+        }
+        return outcomes;
+    }
+}
@@ -0,0 +1,91 @@
+package com.reliaquest.server.web;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.SplittableRandom;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+class RandomRequestLimitInterceptorTest {
+
+    @Test
+    void rejectsRequestsOverTheLimitWithinTheBackoff() {
+        final var interceptor = new RandomRequestLimitInterceptor(3, Duration.ofMinutes(1));
+
+        for (int i = 0; i < 3; i++) {
+            assertTrue(interceptor.preHandle(new MockHttpServletRequest(), new MockHttpServletResponse(), null));
+        }
+        final var response = new MockHttpServletResponse();
+        assertFalse(interceptor.preHandle(new MockHttpServletRequest(), response, null));
+        assertEquals(HttpStatus.TOO_MANY_REQUESTS.value(), response.getStatus());
+    }
+
+    @Test
+    void opensANewWindowOnceTheBackoffHasPassed() throws InterruptedException {
+        final var interceptor = new RandomRequestLimitInterceptor(1, Duration.ofMillis(20));
+
+        assertTrue(interceptor.preHandle(new MockHttpServletRequest(), new MockHttpServletResponse(), null));
+        assertFalse(interceptor.preHandle(new MockHttpServletRequest(), new MockHttpServletResponse(), null));
+        Thread.sleep(50);
+        assertTrue(interceptor.preHandle(new MockHttpServletRequest(), new MockHttpServletResponse(), null));
+    }
+
+    @Test
+    void concurrentCallersNeverOvershootTheLimit() throws Exception {
+        final var interceptor = new RandomRequestLimitInterceptor(50, Duration.ofMinutes(1));
+        final var admitted = new AtomicInteger();
+        final var start = new CountDownLatch(1);
+        final ExecutorService pool = Executors.newFixedThreadPool(16);
+        try {
+            final var futures = new ArrayList<Future<?>>();
+            for (int t = 0; t < 16; t++) {
+                futures.add(pool.submit(() -> {
+                    start.await();
+                    for (int i = 0; i < 100; i++) {
+                        if (interceptor.preHandle(new MockHttpServletRequest(), new MockHttpServletResponse(), null)) {
+                            admitted.incrementAndGet();
+                        }
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get(30, TimeUnit.SECONDS);
+            }
+        } finally {
+            pool.shutdownNow();
+        }
+
+        assertEquals(50, admitted.get());
+    }
+
+    @Test
+    void seededGeneratorPicksTheSameLimit() {
+        final var first = RandomRequestLimitInterceptor.random(new SplittableRandom(3L));
+        final var second = RandomRequestLimitInterceptor.random(new SplittableRandom(3L));
+
+        int firstAdmitted = 0;
+        int secondAdmitted = 0;
+        for (int i = 0; i < 20; i++) {
+            if (first.preHandle(new MockHttpServletRequest(), new MockHttpServletResponse(), null)) {
+                firstAdmitted++;
+            }
+            if (second.preHandle(new MockHttpServletRequest(), new MockHttpServletResponse(), null)) {
+                secondAdmitted++;
+            }
+        }
+        assertEquals(firstAdmitted, secondAdmitted);
+        assertTrue(firstAdmitted >= 5 && firstAdmitted < 10);
+    }
+}
@@ -0,0 +1,92 @@
+package com.reliaquest.server.web;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+
+class SeededSequenceTest {
+
+    private static final int THREADS = 8;
+    private static final int DRAWS_PER_THREAD = 10_000;
+
+    @Test
+    void drawIsAFunctionOfSeedAndOrdinal() {
+        final var first = new SeededSequence(99L);
+        final var second = new SeededSequence(99L);
+
+        for (int i = 0; i < 1_000; i++) {
+            final var draw = first.nextDouble();
+            assertEquals(draw, second.nextDouble());
+            assertTrue(draw >= 0.0 && draw < 1.0);
+        }
+    }
+
+    @Test
+    void concurrentCallersGetDistinctOrdinals() throws Exception {
+        final var sequence = new SeededSequence(1L);
+        final var seen = ConcurrentHashMap.<Long>newKeySet();
+        final var start = new CountDownLatch(1);
+        final ExecutorService pool = Executors.newFixedThreadPool(THREADS);
+        try {
+            final var futures = new ArrayList<Future<?>>();
+            for (int t = 0; t < THREADS; t++) {
+                futures.add(pool.submit(() -> {
+                    start.await();
+                    for (int i = 0; i < DRAWS_PER_THREAD; i++) {
+                        assertTrue(seen.add(sequence.nextOrdinal()));
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get(30, TimeUnit.SECONDS);
+            }
+        } finally {
+            pool.shutdownNow();
+        }
+
+        assertEquals(THREADS * DRAWS_PER_THREAD, seen.size());
+        assertEquals(THREADS * DRAWS_PER_THREAD, sequence.nextOrdinal());
+    }
+
+    @Test
+    void concurrentDrawsMatchSequentialDraws() throws Exception {
+        final var sequential = new SeededSequence(5L);
+        final var expected = new HashSet<Double>();
+        for (int i = 0; i < THREADS * 1_000; i++) {
+            expected.add(sequential.nextDouble());
+        }
+
+        final var concurrent = new SeededSequence(5L);
+        final ExecutorService pool = Executors.newFixedThreadPool(THREADS);
+        final var futures = new ArrayList<Future<List<Double>>>();
+        try {
+            for (int t = 0; t < THREADS; t++) {
+                futures.add(pool.submit(() -> {
+                    final var draws = new ArrayList<Double>();
+                    for (int i = 0; i < 1_000; i++) {
+                        draws.add(concurrent.nextDouble());
+                    }
+                    return draws;
+                }));
+            }
+            final var actual = new HashSet<Double>();
+            for (Future<List<Double>> future : futures) {
+                actual.addAll(future.get(30, TimeUnit.SECONDS));
+            }
+            assertEquals(expected, actual);
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package com.reliaquest.server.web;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+class TokenBucketFaultInjectorTest {
+
+    private final AtomicLong now = new AtomicLong();
+
+    @Test
+    void allowsABurstUpToCapacity() {
+        final var bucket = new TokenBucketFaultInjector(3, 1.0, 429, now::get);
+
+        assertTrue(admits(bucket));
+        assertTrue(admits(bucket));
+        assertTrue(admits(bucket));
+        final var response = new MockHttpServletResponse();
+        assertNull(bucket.inject(new MockHttpServletRequest(), response));
+        assertEquals(429, response.getStatus());
+    }
+
+    @Test
+    void refillsAtTheConfiguredRate() {
+        final var bucket = new TokenBucketFaultInjector(2, 4.0, 429, now::get);
+        assertTrue(admits(bucket));
+        assertTrue(admits(bucket));
+        assertFalse(admits(bucket));
+
+        now.addAndGet(TimeUnit.MILLISECONDS.toNanos(200));
+        assertFalse(admits(bucket));
+
+        now.addAndGet(TimeUnit.MILLISECONDS.toNanos(60));
+        assertTrue(admits(bucket));
+        assertFalse(admits(bucket));
+    }
+
+    @Test
+    void refillIsCappedAtCapacity() {
+        final var bucket = new TokenBucketFaultInjector(2, 100.0, 429, now::get);
+        now.addAndGet(TimeUnit.SECONDS.toNanos(60));
+
+        assertTrue(admits(bucket));
+        assertTrue(admits(bucket));
+        assertFalse(admits(bucket));
+    }
+
+    private static boolean admits(TokenBucketFaultInjector bucket) {
+        return bucket.inject(new MockHttpServletRequest(), new MockHttpServletResponse()) != null;
+    }
+}